@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+# 콜드 스타트 벤치마크: time-to-first-request (프로세스 실행 ~ readiness UP 후 첫 GET /videos 200)
+# 기동 예열(warmup.*)이 켜져 있으면 그 시간까지 포함 (WARMUP_ENABLED=false 로 비교 가능)
+#
+# 비교 대상
+# - jar      : java -jar app-exec.jar (기존 이미지와 동일)
+# - cds      : 압축 해제 + AppCDS 아카이브
+# - aot-cds  : mvn -Paot 빌드 + AppCDS 아카이브 (Dockerfile 과 동일한 구성)
+#
+# 사전 조건
+# - DB/S3/OAuth 환경 변수 (.env 또는 export), SPRING_PROFILES_ACTIVE 미지정 시 prod
+# - BENCH_RUNS: 모드별 반복 횟수 (기본 5)
+#
+# 결과: target/bench-startup.csv (mode, run, 외부 측정값, 앱이 기록한 application.first.request.time)
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+PORT="${BENCH_PORT:-18080}"
+MGMT_PORT="${BENCH_MANAGEMENT_PORT:-18081}"
+RUNS="${BENCH_RUNS:-5}"
+WORK="target/startup"
+OUT="target/bench-startup.csv"
+export SPRING_PROFILES_ACTIVE="${SPRING_PROFILES_ACTIVE:-prod}"
+
+now_ms() { date +%s%3N; }
+
+# $1: 모드 이름, $2: 실행 jar → $WORK/$1 에 압축 해제 + CDS 학습 (Dockerfile 의 builder 단계와 같은 방식)
+prepare() {
+  local dir="$WORK/$1"
+  rm -rf "$dir"
+  java -Djarmode=tools -jar "$2" extract --destination "$dir"
+  if unzip -l "$dir/app-exec.jar" | grep -q 'SamulnoriApplication__ApplicationContextInitializer'; then
+    echo "-Dspring.aot.enabled=true" > "$dir/jvm.args"
+  else
+    : > "$dir/jvm.args"
+  fi
+  java @"$dir/jvm.args" -XX:ArchiveClassesAtExit="$dir/app.jsa" \
+    -Dspring.context.exit=onRefresh -Dspring.profiles.active=prod,training \
+    -jar "$dir/app-exec.jar" > "$dir/training.log" 2>&1
+}
+
+# $1: 모드 이름, 나머지: java 인자
+measure() {
+  local mode="$1"; shift
+  for run in $(seq 1 "$RUNS"); do
+    local log="$WORK/$mode-$run.log"
+    local start; start=$(now_ms)
+    java ${JAVA_OPTS:-} "$@" --server.port="$PORT" --management.server.port="$MGMT_PORT" \
+      --spring.jpa.show-sql=false > "$log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' EXIT
+
+    local elapsed=""
+    for _ in $(seq 1 2400); do
+      if curl -fs -o /dev/null "http://localhost:$MGMT_PORT/actuator/health/readiness" \
+          && curl -fs -o /dev/null "http://localhost:$PORT/videos"; then
+        elapsed=$(( $(now_ms) - start ))
+        break
+      fi
+      sleep 0.05
+    done
+    sleep 1
+    local reported; reported=$(grep -o 'served [0-9]* ms after JVM start' "$log" | grep -o '[0-9]*' || true)
+    echo "$mode,$run,${elapsed:-timeout},${reported:-}" | tee -a "$OUT"
+
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    trap - EXIT
+  done
+}
+
+mkdir -p "$WORK"
+sh mvnw -B -q -DskipTests package
+cp target/app-exec.jar "$WORK/plain.jar"
+sh mvnw -B -q -DskipTests -Paot package
+cp target/app-exec.jar "$WORK/aot.jar"
+
+prepare cds "$WORK/plain.jar"
+prepare aot-cds "$WORK/aot.jar"
+
+echo "mode,run,first_request_ms,reported_first_request_ms" > "$OUT"
+measure jar -jar "$WORK/plain.jar"
+measure cds -XX:SharedArchiveFile="$WORK/cds/app.jsa" -jar "$WORK/cds/app-exec.jar"
+measure aot-cds @"$WORK/aot-cds/jvm.args" -XX:SharedArchiveFile="$WORK/aot-cds/app.jsa" -jar "$WORK/aot-cds/app-exec.jar"
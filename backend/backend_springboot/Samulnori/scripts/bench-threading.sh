@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 vs 가상 스레드 비교 벤치마크 (feed / detail / upload)
+#
+# 사전 조건
+# - JDK 21 (가상 스레드 모드는 21 미만에서 무시됨)
+# - DB/S3/OAuth 환경 변수 (.env 또는 export)
+# - BENCH_TOKEN: 업로드 시나리오용 AccessToken (없으면 upload 생략)
+# - BENCH_VIDEO_ID: detail 시나리오에서 조회할 영상 ID (기본 1)
+#
+# 결과: target/bench-threading.csv (모드별 처리량, p50/p99/max)
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+PORT="${BENCH_PORT:-18080}"
+OUT="target/bench-threading.csv"
+
+sh mvnw -B -q -DskipTests package
+sh mvnw -B -q test-compile
+rm -f "$OUT"
+
+for virtual in false true; do
+  label=$([ "$virtual" = true ] && echo virtual || echo platform)
+  echo "== $label =="
+
+  VIRTUAL_THREADS_ENABLED="$virtual" java ${JAVA_OPTS:-} -jar target/app-exec.jar \
+    --server.port="$PORT" --spring.jpa.show-sql=false > "target/bench-app-$label.log" 2>&1 &
+  pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+
+  for _ in $(seq 1 120); do
+    curl -fs "http://localhost:$PORT/videos" > /dev/null && break
+    sleep 1
+  done
+
+  java -cp target/test-classes \
+    -Dbench.baseUrl="http://localhost:$PORT" \
+    -Dbench.label="$label" \
+    -Dbench.token="${BENCH_TOKEN:-}" \
+    -Dbench.videoId="${BENCH_VIDEO_ID:-1}" \
+    -Dbench.concurrency="${BENCH_CONCURRENCY:-64}" \
+    -Dbench.uploadConcurrency="${BENCH_UPLOAD_CONCURRENCY:-8}" \
+    -Dbench.warmup="${BENCH_WARMUP:-10s}" \
+    -Dbench.duration="${BENCH_DURATION:-30s}" \
+    -Dbench.out="$OUT" \
+    com.ssafy.samulnori.bench.LoadDriver
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+done
+
+column -s, -t "$OUT"
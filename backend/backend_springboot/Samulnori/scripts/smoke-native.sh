@@ -0,0 +1,80 @@
+#!/usr/bin/env bash
+# 네이티브 이미지 스모크 테스트: 읽기 전용 주요 엔드포인트가 200 을 반환하는지 + 기동 시간/RSS 기록
+#
+# 사전 조건
+# - GraalVM (native-image) JDK 17+ → 없으면 SMOKE_TARGET=jvm 으로 같은 점검을 jar 에 대해 수행 (비교 기준)
+# - DB/S3/OAuth 환경 변수 (.env 또는 export), SPRING_PROFILES_ACTIVE 미지정 시 prod
+# - SMOKE_USER_ID / SMOKE_VIDEO_ID: 조회할 기존 사용자/영상 ID (기본 1)
+# - SMOKE_SKIP_BUILD=1: 이미 빌드된 target/samulnori (또는 app-exec.jar) 사용
+#
+# 결과: target/smoke-native.csv (target, endpoint, status) + 기동 시간/RSS 요약
+set -euo pipefail
+cd "$(dirname "$0")/.."
+
+TARGET="${SMOKE_TARGET:-native}"
+PORT="${SMOKE_PORT:-18080}"
+MGMT_PORT="${SMOKE_MANAGEMENT_PORT:-18081}"
+USER_ID="${SMOKE_USER_ID:-1}"
+VIDEO_ID="${SMOKE_VIDEO_ID:-1}"
+OUT="target/smoke-native.csv"
+export SPRING_PROFILES_ACTIVE="${SPRING_PROFILES_ACTIVE:-prod}"
+
+if [ "${SMOKE_SKIP_BUILD:-0}" != 1 ]; then
+  if [ "$TARGET" = native ]; then
+    sh mvnw -B -q -DskipTests -Paot,native native:compile
+  else
+    sh mvnw -B -q -DskipTests package
+  fi
+fi
+
+if [ "$TARGET" = native ]; then
+  cmd=(target/samulnori)
+else
+  cmd=(java ${JAVA_OPTS:-} -jar target/app-exec.jar)
+fi
+
+start=$(date +%s%3N)
+"${cmd[@]}" --server.port="$PORT" --management.server.port="$MGMT_PORT" --spring.jpa.show-sql=false \
+  > "target/smoke-$TARGET.log" 2>&1 &
+pid=$!
+trap 'kill $pid 2>/dev/null || true' EXIT
+
+ready=""
+for _ in $(seq 1 1200); do
+  if curl -fs -o /dev/null "http://localhost:$PORT/videos"; then
+    ready=$(( $(date +%s%3N) - start ))
+    break
+  fi
+  kill -0 "$pid" 2>/dev/null || { echo "process exited"; tail -50 "target/smoke-$TARGET.log"; exit 1; }
+  sleep 0.05
+done
+[ -n "$ready" ] || { echo "not ready"; tail -50 "target/smoke-$TARGET.log"; exit 1; }
+
+endpoints=(
+  "/videos"
+  "/videos?sortBy=popular"
+  "/videos/$VIDEO_ID"
+  "/videos/$VIDEO_ID/comments"
+  "/videos/search?keyword=a"
+  "/users/search?keyword=a"
+  "/users/$USER_ID/profile"
+  "/follow/followers/$USER_ID"
+  "/follow/followings/$USER_ID"
+)
+
+echo "target,endpoint,status" > "$OUT"
+failed=0
+for path in "${endpoints[@]}"; do
+  status=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$PORT$path")
+  echo "$TARGET,$path,$status" | tee -a "$OUT"
+  [ "$status" = 200 ] || failed=1
+done
+health=$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:$MGMT_PORT/actuator/health")
+echo "$TARGET,/actuator/health,$health" | tee -a "$OUT"
+[ "$health" = 200 ] || failed=1
+
+rss_kb=$(awk '/VmRSS/ {print $2}' "/proc/$pid/status")
+started=$(grep -o 'Started SamulnoriApplication in [0-9.]* seconds' "target/smoke-$TARGET.log" || true)
+echo "== $TARGET: first request after ${ready} ms, RSS $(( rss_kb / 1024 )) MB (${started:-no startup log}) =="
+
+exit "$failed"
@@ -0,0 +1,206 @@
+package com.ssafy.samulnori.concurrent;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 의존성(S3 / ffprobe / DB) 별로 분리된 실행기
+ * - 스레드 수, 대기열 길이 제한: 넘치면 바로 BulkheadException (Tomcat 스레드가 쌓이지 않음)
+ * - 작업별 제한 시간: 넘기면 작업 인터럽트 후 BulkheadException
+ * - 포화도/거절/타임아웃 통계 제공
+ * - virtual 모드: 작업마다 가상 스레드를 쓰고, 동시 실행 수/대기 수는 세마포어로 동일하게 제한
+ *   (가상 스레드는 무제한이므로 외부 의존성 보호는 세마포어가 담당)
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int threads;
+    private final int queueCapacity;
+    private final Duration timeout;
+    private final ThreadPoolExecutor executor;         // platform 모드
+    private final AsyncTaskExecutor virtualExecutor;   // virtual 모드
+    private final Semaphore admission;                 // virtual 모드: 실행 + 대기 한도
+    private final Semaphore permits;                   // virtual 모드: 동시 실행 한도
+    private final LongAdder virtualCompleted = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public Bulkhead(String name, int threads, int queueCapacity, Duration timeout) {
+        this(name, threads, queueCapacity, timeout, false);
+    }
+
+    public Bulkhead(String name, int threads, int queueCapacity, Duration timeout, boolean virtual) {
+        this.name = name;
+        this.threads = threads;
+        this.queueCapacity = queueCapacity;
+        this.timeout = timeout;
+
+        if (virtual) {
+            this.executor = null;
+            this.virtualExecutor = new VirtualThreadTaskExecutor("bulkhead-" + name + "-");
+            this.admission = new Semaphore(threads + queueCapacity);
+            this.permits = new Semaphore(threads);
+            return;
+        }
+
+        this.virtualExecutor = null;
+        this.admission = null;
+        this.permits = null;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> new Thread(r, "bulkhead-" + name + "-" + seq.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 비동기 실행 (요청 스레드를 바로 반환할 때 사용)
+     */
+    public <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        Future<?> running;
+        try {
+            running = isVirtual() ? submitVirtual(task, result) : executor.submit(() -> run(task, result));
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            result.completeExceptionally(new BulkheadException(name + " bulkhead is full"));
+            return result;
+        }
+
+        return result.orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionallyCompose(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        timeouts.increment();
+                        running.cancel(true);
+                        return CompletableFuture.failedFuture(
+                                new BulkheadException(name + " call timed out after " + timeout.toMillis() + "ms"));
+                    }
+                    return CompletableFuture.failedFuture(cause);
+                });
+    }
+
+    private <T> Future<?> submitVirtual(Callable<T> task, CompletableFuture<T> result) {
+        if (!admission.tryAcquire()) {
+            throw new RejectedExecutionException();
+        }
+        try {
+            return virtualExecutor.submit(() -> {
+                try {
+                    // 대기는 가상 스레드에서 세마포어로 (캐리어 스레드는 점유하지 않음)
+                    permits.acquire();
+                    try {
+                        run(task, result);
+                    } finally {
+                        permits.release();
+                    }
+                } catch (InterruptedException e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    admission.release();
+                    virtualCompleted.increment();
+                }
+            });
+        } catch (RuntimeException e) {
+            admission.release();
+            throw e;
+        }
+    }
+
+    private static <T> void run(Callable<T> task, CompletableFuture<T> result) {
+        try {
+            result.complete(task.call());
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 동기 실행 (기존 동기 API 에 제한 시간/동시성 제한만 적용할 때 사용)
+     */
+    public <T> T call(Callable<T> task) throws IOException {
+        try {
+            return submit(task).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(name + " call interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            if (cause instanceof Error err) {
+                throw err;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    // =================== Metrics ===================
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isVirtual() {
+        return executor == null;
+    }
+
+    public int getActiveCount() {
+        return isVirtual() ? threads - permits.availablePermits() : executor.getActiveCount();
+    }
+
+    public int getQueuedCount() {
+        if (isVirtual()) {
+            int admitted = threads + queueCapacity - admission.availablePermits();
+            return Math.max(0, admitted - getActiveCount());
+        }
+        return executor.getQueue().size();
+    }
+
+    public long getCompletedCount() {
+        return isVirtual() ? virtualCompleted.sum() : executor.getCompletedTaskCount();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTimeoutCount() {
+        return timeouts.sum();
+    }
+
+    /**
+     * 포화도 (0.0 ~ 1.0): (실행 중 + 대기) / (스레드 수 + 대기열 길이)
+     */
+    public double getSaturation() {
+        return (double) (getActiveCount() + getQueuedCount()) / (threads + queueCapacity);
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.samulnori.concurrent;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * 벌크헤드가 포화(대기열 초과)되었거나 제한 시간 안에 끝나지 않은 경우 → 503
+ */
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class BulkheadException extends RuntimeException {
+
+    public BulkheadException(String message) {
+        super(message);
+    }
+}
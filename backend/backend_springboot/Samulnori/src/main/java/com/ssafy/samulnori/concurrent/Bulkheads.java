@@ -0,0 +1,63 @@
+package com.ssafy.samulnori.concurrent;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 의존성 종류별 벌크헤드 모음
+ * - s3: 미디어 업로드/다운로드
+ * - ffprobe: 외부 프로세스 (영상 길이 계산)
+ * - db: 비동기 업로드 흐름의 마지막 DB 저장 단계
+ * spring.threads.virtual.enabled=true (JDK 21+) 이면 가상 스레드 + 세마포어 모드로 동작
+ */
+@Component
+public class Bulkheads {
+
+    private final Bulkhead s3;
+    private final Bulkhead ffprobe;
+    private final Bulkhead db;
+
+    public Bulkheads(@Value("${bulkhead.s3.threads}") int s3Threads,
+                     @Value("${bulkhead.s3.queue}") int s3Queue,
+                     @Value("${bulkhead.s3.timeout}") Duration s3Timeout,
+                     @Value("${bulkhead.ffprobe.threads}") int ffprobeThreads,
+                     @Value("${bulkhead.ffprobe.queue}") int ffprobeQueue,
+                     @Value("${bulkhead.ffprobe.timeout}") Duration ffprobeTimeout,
+                     @Value("${bulkhead.db.threads}") int dbThreads,
+                     @Value("${bulkhead.db.queue}") int dbQueue,
+                     @Value("${bulkhead.db.timeout}") Duration dbTimeout,
+                     Environment environment) {
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+        this.s3 = new Bulkhead("s3", s3Threads, s3Queue, s3Timeout, virtual);
+        // ffprobe 의 Process.waitFor 는 JDK 21 에서 캐리어 스레드를 고정(pin)함 → 동시 실행 수를 작게 유지
+        this.ffprobe = new Bulkhead("ffprobe", ffprobeThreads, ffprobeQueue, ffprobeTimeout, virtual);
+        this.db = new Bulkhead("db", dbThreads, dbQueue, dbTimeout, virtual);
+    }
+
+    public Bulkhead s3() {
+        return s3;
+    }
+
+    public Bulkhead ffprobe() {
+        return ffprobe;
+    }
+
+    public Bulkhead db() {
+        return db;
+    }
+
+    public List<Bulkhead> all() {
+        return List.of(s3, ffprobe, db);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        all().forEach(Bulkhead::shutdown);
+    }
+}
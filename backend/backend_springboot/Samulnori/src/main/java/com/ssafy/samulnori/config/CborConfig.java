@@ -0,0 +1,43 @@
+package com.ssafy.samulnori.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.HeaderContentNegotiationStrategy;
+import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Accept: application/cbor 응답
+ * - 스키마(필드 이름/날짜 형식)는 JSON 과 같고 인코딩만 바이너리 → 같은 DTO, 클라이언트 파서만 교체
+ * - Spring 기본 CBOR 컨버터 대신 Boot 가 설정한 Jackson2ObjectMapperBuilder 로 만들어 JSON 과 모듈/설정을 맞춤
+ * - JSON 컨버터가 앞에 있으므로 Accept 가 없거나 *&#47;* 이면 JSON 그대로
+ * - 해석할 수 없는 Accept 는 406 대신 JSON (ResponseFormats.negotiate 와 같은 규칙)
+ */
+@Configuration
+public class CborConfig implements WebMvcConfigurer {
+
+    private static final HeaderContentNegotiationStrategy HEADER = new HeaderContentNegotiationStrategy();
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Override
+    public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
+        configurer.strategies(List.of(request -> {
+            try {
+                return HEADER.resolveMediaTypes(request);
+            } catch (HttpMediaTypeNotAcceptableException e) {
+                return List.of(MediaType.APPLICATION_JSON);
+            }
+        }));
+    }
+}
@@ -0,0 +1,52 @@
+package com.ssafy.samulnori.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.support.ServletRequestHandledEvent;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 콜드 스타트 지표: JVM 시작 ~ 첫 서비스 요청 처리 완료 (application.first.request.time)
+ * - Actuator 의 application.started/ready.time 은 SpringApplication 시작 기준이라 JVM 부팅, 클래스 로딩(CDS) 효과가 빠짐
+ * - ready 이후 요청만 셈 (기동 예열 단계의 합성 요청 제외), 관리 포트(/actuator) 요청과 5xx 응답도 제외
+ * 첫 요청 이전에는 NaN
+ */
+@Slf4j
+@Component
+public class FirstRequestMetrics implements MeterBinder {
+
+    private final AtomicLong firstRequestMillis = new AtomicLong(-1);
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        ready = true;
+    }
+
+    @EventListener
+    public void onRequestHandled(ServletRequestHandledEvent event) {
+        if (!ready || firstRequestMillis.get() >= 0 || event.getRequestUrl().startsWith("/actuator") || event.getStatusCode() >= 500) {
+            return;
+        }
+        long elapsed = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        if (firstRequestMillis.compareAndSet(-1, elapsed)) {
+            log.info("First request {} {} served {} ms after JVM start", event.getMethod(), event.getRequestUrl(), elapsed);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        TimeGauge.builder("application.first.request.time", firstRequestMillis, TimeUnit.MILLISECONDS,
+                        v -> v.get() < 0 ? Double.NaN : v.get())
+                .description("Time from JVM start until the first application request was served")
+                .register(registry);
+    }
+}
@@ -0,0 +1,120 @@
+package com.ssafy.samulnori.config;
+
+import com.ssafy.samulnori.concurrent.Bulkhead;
+import com.ssafy.samulnori.concurrent.Bulkheads;
+import com.ssafy.samulnori.invalidation.InvalidationBus;
+import com.ssafy.samulnori.model.service.FeedResponseCache;
+import com.ssafy.samulnori.model.service.ProfilePageCache;
+import com.ssafy.samulnori.model.service.UserCardCache;
+import com.ssafy.samulnori.model.service.VideoDetailCache;
+import com.ssafy.samulnori.model.service.ViewCountBuffer;
+import com.ssafy.samulnori.storage.MediaCache;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import com.ssafy.samulnori.storage.SpoolingBlobStore;
+import com.ssafy.samulnori.util.CircuitBreaker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 자체 구현 컴포넌트(벌크헤드, 캐시, 스풀)의 통계를 Micrometer 에 연결
+ * - HTTP(http.server.requests), 리포지토리(spring.data.repository.invocations), Hikari(hikaricp.*) 는 Actuator 자동 구성
+ * - S3(storage.s3.*), ffprobe(ffprobe.duration) 는 호출 지점에서 직접 기록
+ * 여기서는 기존 getter 를 읽기만 하므로 각 컴포넌트는 Micrometer 에 의존하지 않음
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder bulkheadMetrics(Bulkheads bulkheads) {
+        return registry -> bulkheads.all().forEach(b -> bindBulkhead(registry, b));
+    }
+
+    private static void bindBulkhead(MeterRegistry registry, Bulkhead b) {
+        String name = b.getName();
+        Gauge.builder("bulkhead.active", b, Bulkhead::getActiveCount).tag("name", name).register(registry);
+        Gauge.builder("bulkhead.queued", b, Bulkhead::getQueuedCount).tag("name", name).register(registry);
+        Gauge.builder("bulkhead.saturation", b, Bulkhead::getSaturation).tag("name", name).register(registry);
+        FunctionCounter.builder("bulkhead.completed", b, Bulkhead::getCompletedCount).tag("name", name).register(registry);
+        FunctionCounter.builder("bulkhead.rejected", b, Bulkhead::getRejectedCount).tag("name", name).register(registry);
+        FunctionCounter.builder("bulkhead.timeouts", b, Bulkhead::getTimeoutCount).tag("name", name).register(registry);
+    }
+
+    @Bean
+    public MeterBinder presignCacheMetrics(MediaUrlResolver mediaUrlResolver) {
+        // cache.gets{cache="presign", result=hit|miss} 등 Caffeine 표준 지표
+        return registry -> CaffeineCacheMetrics.monitor(registry, mediaUrlResolver.getSignatureCache(), "presign");
+    }
+
+    @Bean
+    public MeterBinder videoDetailMetrics(VideoDetailCache videoDetailCache, ViewCountBuffer viewCountBuffer) {
+        return registry -> {
+            CaffeineCacheMetrics.monitor(registry, videoDetailCache.getDetails(), "video-detail");
+            Gauge.builder("video.views.pending", viewCountBuffer, ViewCountBuffer::getPendingCount).register(registry);
+            FunctionCounter.builder("video.views.flushed", viewCountBuffer, ViewCountBuffer::getFlushedCount).register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder userCardCacheMetrics(UserCardCache userCardCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, userCardCache.getCards(), "user-card");
+    }
+
+    @Bean
+    public MeterBinder profileCacheMetrics(ProfilePageCache profilePageCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, profilePageCache.getPages(), "profile");
+    }
+
+    @Bean
+    public MeterBinder feedResponseCacheMetrics(FeedResponseCache feedResponseCache) {
+        // stale 응답 제공 중 백그라운드 갱신은 cache.loads 에 함께 집계
+        return registry -> CaffeineCacheMetrics.monitor(registry, feedResponseCache.getResponses(), "feed-response");
+    }
+
+    @Bean
+    public MeterBinder invalidationMetrics(InvalidationBus invalidationBus) {
+        return registry -> {
+            FunctionCounter.builder("cache.invalidations", invalidationBus, InvalidationBus::getPublishedCount)
+                    .tag("direction", "published").register(registry);
+            FunctionCounter.builder("cache.invalidations", invalidationBus, InvalidationBus::getReceivedCount)
+                    .tag("direction", "received").register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder mediaCacheMetrics(ObjectProvider<MediaCache> mediaCache) {
+        // Caffeine 캐시와 같은 이름(cache.*)을 써서 적중률 쿼리를 공유
+        return registry -> mediaCache.ifAvailable(c -> {
+            FunctionCounter.builder("cache.gets", c, MediaCache::getHits)
+                    .tags("cache", "media", "result", "hit").register(registry);
+            FunctionCounter.builder("cache.gets", c, MediaCache::getMisses)
+                    .tags("cache", "media", "result", "miss").register(registry);
+            FunctionCounter.builder("cache.evictions", c, MediaCache::getEvictions)
+                    .tag("cache", "media").register(registry);
+            Gauge.builder("cache.size", c, MediaCache::getEntryCount)
+                    .tag("cache", "media").register(registry);
+            Gauge.builder("media.cache.used", c, MediaCache::getUsedBytes)
+                    .baseUnit("bytes").register(registry);
+        });
+    }
+
+    @Bean
+    public MeterBinder spoolMetrics(ObjectProvider<SpoolingBlobStore> spool) {
+        return registry -> spool.ifAvailable(s -> {
+            Gauge.builder("spool.pending", s, SpoolingBlobStore::getPendingCount).register(registry);
+            Gauge.builder("spool.in.progress", s, SpoolingBlobStore::getInProgress).register(registry);
+            Gauge.builder("spool.used", s, SpoolingBlobStore::getSpooledBytes).baseUnit("bytes").register(registry);
+            FunctionCounter.builder("spool.drained", s, SpoolingBlobStore::getDrainedCount).register(registry);
+            FunctionCounter.builder("spool.failures", s, SpoolingBlobStore::getFailureCount).register(registry);
+            CircuitBreaker breaker = s.getCircuitBreaker();
+            // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+            Gauge.builder("circuit.breaker.state", breaker, cb -> cb.getState().ordinal())
+                    .tag("name", breaker.getName()).register(registry);
+        });
+    }
+}
@@ -0,0 +1,118 @@
+package com.ssafy.samulnori.config;
+
+import com.ssafy.samulnori.model.entity.SnowflakeIdGenerator;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.util.ClassUtils;
+
+import java.util.stream.Stream;
+
+/**
+ * GraalVM native-image 용 리플렉션/리소스 힌트 (mvn -Paot,native native:compile)
+ * Spring/Hibernate/Jackson 자체 힌트와 GraalVM reachability metadata 가 다루지 않는 부분만 등록
+ * JVM 실행에서는 AOT 처리 시에만 읽히고 런타임 영향 없음
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.Hints.class)
+public class NativeHintsConfig {
+
+    static final String DTO_PACKAGE = "com.ssafy.samulnori.model.dto";
+
+    static class Hints implements RuntimeHintsRegistrar {
+
+        private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            registerDtos(hints, classLoader);
+            registerJjwt(hints);
+            registerAwsSdk(hints);
+            // @IdGeneratorType 생성기는 Hibernate 가 리플렉션으로 생성
+            hints.reflection().registerType(SnowflakeIdGenerator.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+
+        // Jackson 직렬화 대상 DTO (Lombok 이 만든 getter/setter/빌더 포함)
+        // 컨트롤러 반환 타입은 Spring 이 따라가지만 ResponseEntity<?>, Map 값 등으로 나가는 DTO 는 놓치므로 패키지 전체 등록
+        private void registerDtos(RuntimeHints hints, ClassLoader classLoader) {
+            ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+                @Override
+                protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                    return beanDefinition.getMetadata().isIndependent();
+                }
+            };
+            scanner.addIncludeFilter((reader, factory) -> true);
+            for (BeanDefinition candidate : scanner.findCandidateComponents(DTO_PACKAGE)) {
+                Class<?> type = ClassUtils.resolveClassName(candidate.getBeanClassName(), classLoader);
+                bindingRegistrar.registerReflectionHints(hints.reflection(), type);
+            }
+        }
+
+        // jjwt-api 는 구현(jjwt-impl)을 클래스 이름으로 찾아 생성하고, JSON 처리기는 ServiceLoader 로 찾음
+        private void registerJjwt(RuntimeHints hints) {
+            Stream.of(
+                    "io.jsonwebtoken.impl.DefaultClaimsBuilder",
+                    "io.jsonwebtoken.impl.DefaultJwtBuilder",
+                    "io.jsonwebtoken.impl.DefaultJwtHeaderBuilder",
+                    "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+                    "io.jsonwebtoken.impl.io.StandardCompressionAlgorithms",
+                    "io.jsonwebtoken.impl.security.DefaultDynamicJwkBuilder",
+                    "io.jsonwebtoken.impl.security.DefaultJwkParserBuilder",
+                    "io.jsonwebtoken.impl.security.DefaultJwkSetBuilder",
+                    "io.jsonwebtoken.impl.security.DefaultJwkSetParserBuilder",
+                    "io.jsonwebtoken.impl.security.DefaultKeyOperationBuilder",
+                    "io.jsonwebtoken.impl.security.DefaultKeyOperationPolicyBuilder",
+                    "io.jsonwebtoken.impl.security.JwksBridge",
+                    "io.jsonwebtoken.impl.security.KeysBridge",
+                    "io.jsonwebtoken.impl.security.StandardCurves",
+                    "io.jsonwebtoken.impl.security.StandardEncryptionAlgorithms",
+                    "io.jsonwebtoken.impl.security.StandardHashAlgorithms",
+                    "io.jsonwebtoken.impl.security.StandardKeyAlgorithms",
+                    "io.jsonwebtoken.impl.security.StandardKeyOperations",
+                    "io.jsonwebtoken.impl.security.StandardSecureDigestAlgorithms",
+                    "io.jsonwebtoken.jackson.io.JacksonSerializer",
+                    "io.jsonwebtoken.jackson.io.JacksonDeserializer"
+            ).forEach(name -> hints.reflection().registerType(TypeReference.of(name),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS));
+            hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+        }
+
+        // AWS SDK v1: 엔드포인트/설정 JSON 을 Jackson 으로 바인딩하고, 서명기는 클래스 이름으로 생성
+        private void registerAwsSdk(RuntimeHints hints) {
+            hints.resources()
+                    .registerPattern("com/amazonaws/partitions/endpoints.json")
+                    .registerPattern("com/amazonaws/internal/config/awssdk_config_default.json")
+                    .registerPattern("com/amazonaws/sdk/versionInfo.properties")
+                    .registerPattern("com/amazonaws/services/s3/request.handler*");
+            Stream.of(
+                    "com.amazonaws.internal.config.InternalConfigJsonHelper",
+                    "com.amazonaws.internal.config.JsonIndex",
+                    "com.amazonaws.internal.config.SignerConfigJsonHelper",
+                    "com.amazonaws.internal.config.HttpClientConfigJsonHelper",
+                    "com.amazonaws.internal.config.HostRegexToRegionMappingJsonHelper",
+                    "com.amazonaws.partitions.model.Partitions",
+                    "com.amazonaws.partitions.model.Partition",
+                    "com.amazonaws.partitions.model.Region",
+                    "com.amazonaws.partitions.model.Service",
+                    "com.amazonaws.partitions.model.Endpoint",
+                    "com.amazonaws.partitions.model.CredentialScope"
+            ).forEach(name -> hints.reflection().registerType(TypeReference.of(name), MemberCategory.values()));
+            Stream.of(
+                    "com.amazonaws.auth.AWS4Signer",
+                    "com.amazonaws.auth.AWS4UnsignedPayloadSigner",
+                    "com.amazonaws.auth.QueryStringSigner",
+                    "com.amazonaws.auth.NoOpSigner",
+                    "com.amazonaws.services.s3.internal.AWSS3V4Signer",
+                    "com.amazonaws.services.s3.internal.S3Signer"
+            ).forEach(name -> hints.reflection().registerType(TypeReference.of(name),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));
+        }
+    }
+}
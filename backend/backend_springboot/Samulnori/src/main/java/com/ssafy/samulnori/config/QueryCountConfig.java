@@ -0,0 +1,34 @@
+package com.ssafy.samulnori.config;
+
+import com.ssafy.samulnori.filter.QueryCountFilter;
+import com.ssafy.samulnori.util.QueryCountingSessionListener;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+
+/**
+ * 개발/테스트용 요청별 쿼리 수 집계 (N+1 회귀 확인용)
+ * 운영(prod 프로파일)에서는 등록하지 않음
+ */
+@Configuration
+@Profile("!prod")
+public class QueryCountConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCountingSessionListener() {
+        return properties -> properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                QueryCountingSessionListener.class.getName());
+    }
+
+    @Bean
+    public FilterRegistrationBean<QueryCountFilter> queryCountFilter() {
+        FilterRegistrationBean<QueryCountFilter> registration = new FilterRegistrationBean<>(new QueryCountFilter());
+        // 보안 필터(JWT 조회 포함)까지 집계되도록 가장 바깥에 둠
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -1,16 +1,23 @@
 package com.ssafy.samulnori.config;
 
+import com.amazonaws.ClientConfiguration;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
 
 @Configuration
 @EnableConfigurationProperties
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
 public class S3Config {
 
     @Value("${AWS_ACCESS_KEY}")
@@ -22,12 +29,46 @@ public class S3Config {
     @Value("${AWS_REGION}")
     private String region;
 
+    @Value("${cloud.aws.s3.connection-timeout}")
+    private Duration connectionTimeout;
+
+    @Value("${cloud.aws.s3.socket-timeout}")
+    private Duration socketTimeout;
+
+    @Value("${cloud.aws.s3.request-timeout}")
+    private Duration requestTimeout;
+
+    @Value("${cloud.aws.s3.max-connections}")
+    private int maxConnections;
+
+    // S3 호환 저장소(MinIO, 부하 테스트용 스텁 등)를 쓸 때만 지정
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    @Value("${cloud.aws.s3.path-style-access:false}")
+    private boolean pathStyleAccess;
+
     @Bean
     public AmazonS3 amazonS3() {
         BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
+
+        // 기본값은 타임아웃이 없거나 매우 길어 S3 지연 시 요청 스레드가 무한정 묶임
+        ClientConfiguration clientConfig = new ClientConfiguration()
+                .withConnectionTimeout((int) connectionTimeout.toMillis())
+                .withSocketTimeout((int) socketTimeout.toMillis())
+                .withRequestTimeout((int) requestTimeout.toMillis())
+                .withMaxConnections(maxConnections);
+
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
                 .withCredentials(new AWSStaticCredentialsProvider(credentials))
-                .build();
+                .withClientConfiguration(clientConfig)
+                .withPathStyleAccessEnabled(pathStyleAccess);
+
+        if (StringUtils.hasText(endpoint)) {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region));
+        } else {
+            builder.withRegion(region);
+        }
+        return builder.build();
     }
 }
@@ -1,11 +1,13 @@
 package com.ssafy.samulnori.config;
 
 import com.ssafy.samulnori.filter.JwtFilter;
+import com.ssafy.samulnori.jfr.JfrRecordingEndpoint;
 import com.ssafy.samulnori.oauth2.CustomOAuth2UserService;
 import com.ssafy.samulnori.oauth2.CustomSuccessHandler;
 import com.ssafy.samulnori.util.JwtUtil;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -50,6 +52,8 @@ public class SecurityConfig {
         //경로별 인가 작업
         http
                 .authorizeHttpRequests((auth) -> auth
+                        // JFR 녹화 제어/다운로드는 관리자만 (녹화 파일에 스택·도메인 이벤트 값이 담김)
+                        .requestMatchers(EndpointRequest.to(JfrRecordingEndpoint.class)).hasRole("ADMIN")
                         .anyRequest().permitAll()
                 );
         //세션 설정 : STATELESS
@@ -4,12 +4,15 @@ import com.ssafy.samulnori.model.dto.CommentRequestDto;
 import com.ssafy.samulnori.model.dto.CommentResponseDto;
 import com.ssafy.samulnori.oauth2.LoginUserPrincipal;
 import com.ssafy.samulnori.model.service.CommentService;
+import com.ssafy.samulnori.util.ResponseFormats;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/videos/{videoId}/comments")
@@ -32,26 +35,43 @@ public class CommentController {
 
     /**
      * 부모 댓글 목록 조회 (최신순)
+     * If-None-Match 가 같으면 집계 쿼리만 하고 304 (ETag 는 응답 인코딩별, Vary: Accept)
+     * normalized=true 면 { items, users } 형태 (작성자는 users 에 한 번씩)
      */
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> getParentComments(
+    public ResponseEntity<?> getParentComments(
             @PathVariable Long videoId,
-            @AuthenticationPrincipal LoginUserPrincipal userDetails) {
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @AuthenticationPrincipal LoginUserPrincipal userDetails,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
 
         Long userId = (userDetails != null) ? Long.parseLong(userDetails.getUserId()) : null;
-        return ResponseEntity.ok(commentService.getParentCommentsByVideo(videoId, userId));
+        MediaType format = ResponseFormats.negotiate(accept);
+        if (webRequest.checkNotModified(commentService.getParentCommentsETag(videoId, userId, format))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        ResponseEntity.BodyBuilder ok = ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).contentType(format);
+        if (normalized) {
+            return ok.body(commentService.getParentCommentItemsByVideo(videoId, userId));
+        }
+        return ok.body(commentService.getParentCommentsByVideo(videoId, userId));
     }
 
     /**
      * 대댓글 조회 (오래된 순)
      */
     @GetMapping("/{parentId}/replies")
-    public ResponseEntity<List<CommentResponseDto>> getReplies(
+    public ResponseEntity<?> getReplies(
             @PathVariable Long videoId,
             @PathVariable Long parentId,
+            @RequestParam(defaultValue = "false") boolean normalized,
             @AuthenticationPrincipal LoginUserPrincipal userDetails) {
 
         Long userId = (userDetails != null) ? Long.parseLong(userDetails.getUserId()) : null;
+        if (normalized) {
+            return ResponseEntity.ok(commentService.getReplyItemsByParent(parentId, userId));
+        }
         return ResponseEntity.ok(commentService.getRepliesByParent(parentId, userId));
     }
 
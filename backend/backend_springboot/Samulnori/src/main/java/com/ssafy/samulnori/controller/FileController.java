@@ -1,5 +1,6 @@
 package com.ssafy.samulnori.controller;
 
+import com.ssafy.samulnori.concurrent.BulkheadException;
 import com.ssafy.samulnori.model.service.S3Uploader;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -10,7 +11,8 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,37 +23,39 @@ public class FileController {
 
     // 프로필 이미지 업로드
     @PostMapping("/upload/profile")
-    public ResponseEntity<String> uploadProfileImage(@RequestParam("file") MultipartFile file) {
-        try {
-            String url = s3Uploader.uploadProfileImage(file);
-            return ResponseEntity.ok(url);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("프로필 이미지 업로드 실패: " + e.getMessage());
-        }
+    public CompletableFuture<ResponseEntity<String>> uploadProfileImage(@RequestParam("file") MultipartFile file) {
+        return s3Uploader.uploadProfileImageAsync(file)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(e -> ResponseEntity.status(uploadFailureStatus(e))
+                        .body("프로필 이미지 업로드 실패: " + rootCause(e).getMessage()));
     }
 
     // 영상 업로드
     @PostMapping("/upload/video")
-    public ResponseEntity<String> uploadVideo(@RequestParam("file") MultipartFile file) {
-        try {
-            String url = s3Uploader.uploadVideo(file);
-            return ResponseEntity.ok(url);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("영상 업로드 실패: " + e.getMessage());
-        }
+    public CompletableFuture<ResponseEntity<String>> uploadVideo(@RequestParam("file") MultipartFile file) {
+        return s3Uploader.uploadVideoAsync(file)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(e -> ResponseEntity.status(uploadFailureStatus(e))
+                        .body("영상 업로드 실패: " + rootCause(e).getMessage()));
     }
 
     // 썸네일 이미지 업로드
     @PostMapping("/upload/thumbnail")
-    public ResponseEntity<String> uploadThumbnail(@RequestParam("file") MultipartFile file) {
-        try {
-            String url = s3Uploader.uploadThumbnail(file);
-            return ResponseEntity.ok(url);
-        } catch (IOException e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("썸네일 업로드 실패: " + e.getMessage());
-        }
+    public CompletableFuture<ResponseEntity<String>> uploadThumbnail(@RequestParam("file") MultipartFile file) {
+        return s3Uploader.uploadThumbnailAsync(file)
+                .thenApply(ResponseEntity::ok)
+                .exceptionally(e -> ResponseEntity.status(uploadFailureStatus(e))
+                        .body("썸네일 업로드 실패: " + rootCause(e).getMessage()));
     }
-}
\ No newline at end of file
+
+    // 벌크헤드 포화/타임아웃은 503, 그 외 업로드 실패는 500
+    private static HttpStatus uploadFailureStatus(Throwable e) {
+        return rootCause(e) instanceof BulkheadException
+                ? HttpStatus.SERVICE_UNAVAILABLE
+                : HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    private static Throwable rootCause(Throwable e) {
+        return (e instanceof CompletionException && e.getCause() != null) ? e.getCause() : e;
+    }
+}
@@ -1,11 +1,8 @@
 package com.ssafy.samulnori.controller;
 
-import com.ssafy.samulnori.model.entity.CommentLike;
 import com.ssafy.samulnori.oauth2.LoginUserPrincipal;
 import com.ssafy.samulnori.model.dto.CommentLikeResponseDto;
 import com.ssafy.samulnori.model.dto.VideoLikeResponseDto;
-import com.ssafy.samulnori.model.entity.Video;
-import com.ssafy.samulnori.model.repository.VideoRepository;
 import com.ssafy.samulnori.model.service.LikeService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -20,7 +17,6 @@ import java.util.List;
 public class LikeController {
 
     private final LikeService likeService;
-    private final VideoRepository videoRepository;
 
     /**
      * 영상 좋아요 토글
@@ -31,20 +27,7 @@ public class LikeController {
             @PathVariable Long videoId) {
 
         Long userId = getUserIdFromAuth(authentication);
-        boolean isLiked = likeService.toggleVideoLike(userId, videoId);
-
-        // 영상 좋아요 수 다시 가져오기
-        Video video = videoRepository.findById(videoId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영상입니다."));
-        int likeCount = video.getLikeCnt();
-
-        return ResponseEntity.ok(
-                VideoLikeResponseDto.builder()
-                        .videoId(videoId)
-                        .isLiked(isLiked)
-                        .likeCount(likeCount)
-                        .build()
-        );
+        return ResponseEntity.ok(likeService.toggleVideoLike(userId, videoId));
     }
 
     /**
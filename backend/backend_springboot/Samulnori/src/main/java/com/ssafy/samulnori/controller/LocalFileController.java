@@ -0,0 +1,58 @@
+package com.ssafy.samulnori.controller;
+
+import com.ssafy.samulnori.storage.LocalBlobStore;
+import com.ssafy.samulnori.util.FileRangeWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 로컬 저장소 파일 서빙 (storage.type=local 일 때만 등록)
+ * - GET/HEAD /files/{key} (Range 지원)
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalFileController {
+
+    private static final String PREFIX = "/files/";
+
+    private final LocalBlobStore localBlobStore;
+
+    @RequestMapping(value = "/files/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String key = URLDecoder.decode(uri.substring(PREFIX.length()), StandardCharsets.UTF_8);
+
+        Path file;
+        try {
+            file = localBlobStore.resolve(key);
+        } catch (IllegalArgumentException e) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+        if (!Files.isRegularFile(file)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+
+        // 키에 UUID 가 포함되어 내용이 바뀌지 않으므로 장기 캐시
+        FileRangeWriter.write(request, response, file, contentType, "public, max-age=31536000, immutable");
+    }
+}
@@ -0,0 +1,95 @@
+package com.ssafy.samulnori.controller;
+
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.ssafy.samulnori.storage.BlobStore;
+import com.ssafy.samulnori.storage.MediaCache;
+import com.ssafy.samulnori.util.FileRangeWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 미디어 프록시 (media.cache.enabled=true 일 때만 등록)
+ * - GET/HEAD /media/{key} : 로컬 디스크 캐시를 거쳐 S3 객체 서빙 (Range 지원, 캐시보다 큰 객체는 원본 구간 GET 으로 바로 전송)
+ * - GET /media/stats      : 캐시 적중률 등 통계
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "media.cache.enabled", havingValue = "true")
+public class MediaProxyController {
+
+    private static final String PREFIX = "/media/";
+
+    // 키에 UUID 가 포함되어 내용이 바뀌지 않으므로 장기 캐시
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // Video.videoUrl / thumbnailUrl, 프로필 이미지가 저장되는 디렉토리만 허용
+    private static final List<String> ALLOWED_DIRS = List.of("videos/", "thumbnails/", "profile-images/");
+
+    private final MediaCache mediaCache;
+    private final BlobStore blobStore;
+
+    @RequestMapping(value = "/media/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String key = URLDecoder.decode(uri.substring(PREFIX.length()), StandardCharsets.UTF_8);
+
+        if (key.contains("..") || ALLOWED_DIRS.stream().noneMatch(key::startsWith)) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String contentType = MediaTypeFactory.getMediaType(key)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+
+        MediaCache.Entry entry;
+        try {
+            entry = mediaCache.get(key);
+            if (entry == null) {
+                // 캐시 용량보다 큰 객체 → 디스크를 거치지 않고 원본에서 요청 구간만 받아 바로 전송
+                long length = blobStore.sizeOf(key);
+                FileRangeWriter.write(request, response, length,
+                        (start, end) -> blobStore.open(key, start, end), contentType, CACHE_CONTROL);
+                return;
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        } catch (AmazonS3Exception e) {
+            response.sendError(e.getStatusCode() == 404 ? HttpServletResponse.SC_NOT_FOUND
+                    : HttpServletResponse.SC_BAD_GATEWAY);
+            return;
+        }
+
+        FileRangeWriter.write(request, response, entry.buffer(), contentType, CACHE_CONTROL);
+    }
+
+    @GetMapping("/media/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        return ResponseEntity.ok(Map.of(
+                "hits", mediaCache.getHits(),
+                "misses", mediaCache.getMisses(),
+                "hitRatio", mediaCache.getHitRatio(),
+                "evictions", mediaCache.getEvictions(),
+                "entries", mediaCache.getEntryCount(),
+                "usedBytes", mediaCache.getUsedBytes()
+        ));
+    }
+}
@@ -0,0 +1,57 @@
+package com.ssafy.samulnori.controller;
+
+import com.ssafy.samulnori.storage.SpoolingBlobStore;
+import com.ssafy.samulnori.util.FileRangeWriter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * S3 전송 대기 중인 스풀 파일 서빙 (storage.spool.enabled=true 일 때만 등록)
+ * - GET/HEAD /spool/{key} (Range 지원)
+ * - 전송이 끝난 key 는 404 → 클라이언트는 다음 조회에서 S3 URL 을 받음
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${storage.type:s3}' == 's3' and ${storage.spool.enabled:false}")
+public class SpoolFileController {
+
+    private static final String PREFIX = "/spool/";
+
+    private final SpoolingBlobStore spoolingBlobStore;
+
+    @RequestMapping(value = "/spool/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String uri = request.getRequestURI().substring(request.getContextPath().length());
+        String key = URLDecoder.decode(uri.substring(PREFIX.length()), StandardCharsets.UTF_8);
+
+        Path file = spoolingBlobStore.pendingFile(key);
+        if (file == null) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String contentType = MediaTypeFactory.getMediaType(key)
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString();
+        try {
+            // 곧 S3 URL 로 바뀌므로 캐시하지 않음
+            FileRangeWriter.write(request, response, file, contentType, "no-store");
+        } catch (NoSuchFileException e) {
+            // 전송 완료로 방금 삭제됨
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+        }
+    }
+}
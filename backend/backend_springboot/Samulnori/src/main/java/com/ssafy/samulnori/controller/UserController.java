@@ -6,15 +6,21 @@ import java.util.List;
 import com.ssafy.samulnori.model.dto.user.MyInfoRequestDTO;
 import com.ssafy.samulnori.model.dto.user.MyInfoResponseDTO;
 import com.ssafy.samulnori.model.dto.user.PageDTO;
+import com.ssafy.samulnori.model.dto.user.ProfileVideosDTO;
 import com.ssafy.samulnori.model.dto.user.UserDTO;
 import com.ssafy.samulnori.oauth2.LoginUserPrincipal;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 
+import com.ssafy.samulnori.model.service.ProfilePageCache.ProfilePage;
 import com.ssafy.samulnori.model.service.UserService;
+import com.ssafy.samulnori.util.ResponseFormats;
 
 import lombok.RequiredArgsConstructor;
 
@@ -67,9 +73,23 @@ public class UserController {
         return ResponseEntity.ok(userService.searchUsers(keyword));
     }
 
-    // 유저 프로필 조회
+    // 유저 프로필 조회 (If-None-Match 가 같으면 304, JSON/CBOR 는 ETag 가 다름)
     @GetMapping("/{userId}/profile")
-    public ResponseEntity<PageDTO> getUserProfile(@PathVariable Long userId) {
-        return ResponseEntity.ok(userService.getUserProfile(userId));
+    public ResponseEntity<PageDTO> getUserProfile(@PathVariable Long userId,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                  WebRequest webRequest) {
+        MediaType format = ResponseFormats.negotiate(accept);
+        ProfilePage profile = userService.getUserProfilePage(userId);
+        if (webRequest.checkNotModified(userService.getUserProfileETag(profile, format))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).contentType(format).body(profile.page());
+    }
+
+    // 유저 프로필 영상 다음 페이지 (cursor: 이전 응답의 nextCursor)
+    @GetMapping("/{userId}/profile/videos")
+    public ResponseEntity<ProfileVideosDTO> getUserProfileVideos(@PathVariable Long userId,
+                                                                 @RequestParam(required = false) Long cursor) {
+        return ResponseEntity.ok(userService.getUserProfileVideos(userId, cursor));
     }
 }
\ No newline at end of file
@@ -3,7 +3,10 @@ package com.ssafy.samulnori.controller;
 import com.ssafy.samulnori.oauth2.LoginUserPrincipal;
 import com.ssafy.samulnori.model.dto.VideoRequestDto;
 import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import com.ssafy.samulnori.model.service.FeedResponseCache;
+import com.ssafy.samulnori.model.service.FeedResponseCache.FeedResponse;
 import com.ssafy.samulnori.model.service.VideoService;
+import com.ssafy.samulnori.util.ResponseFormats;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -11,23 +14,50 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.io.IOException;
 import java.net.URI;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
-@RequestMapping(value = "/videos", produces = MediaType.APPLICATION_JSON_VALUE)
+@RequestMapping(value = "/videos", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_CBOR_VALUE})
 @RequiredArgsConstructor
 public class VideoController {
 
     private final VideoService videoService;
+    private final FeedResponseCache feedResponseCache;
 
     // 전체 영상 목록 조회 (정렬: latest / popular) (비인증 허용)
+    // 액세스 토큰이 없는 요청은 FeedResponseCache 의 직렬화된 응답 (ETag 일치 시 304)
+    // normalized=true 면 { items, users } 형태 (업로더는 users 에 한 번씩)
+    // Accept: application/cbor 면 같은 스키마의 CBOR (캐시 경로 포함)
     @GetMapping
-    public ResponseEntity<List<VideoResponseDto>> getAllVideos(
-            @RequestParam(defaultValue = "latest") String sortBy) {
-        if ("popular".equalsIgnoreCase(sortBy)) {
+    public ResponseEntity<?> getAllVideos(
+            @RequestParam(defaultValue = "latest") String sortBy,
+            @RequestParam(defaultValue = "false") boolean normalized,
+            @CookieValue(value = "AccessToken", required = false) String accessToken,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        boolean popular = "popular".equalsIgnoreCase(sortBy);
+        if (accessToken == null) {
+            MediaType format = ResponseFormats.negotiate(accept);
+            FeedResponse feed = feedResponseCache.get(popular ? "popular" : "latest", normalized, format);
+            boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+            ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                    .eTag(feed.etag())
+                    .cacheControl(feedResponseCache.cacheControl())
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .contentType(format);
+            if (gzip) {
+                builder.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return builder.body(gzip ? feed.gzip() : feed.body());
+        }
+        if (normalized) {
+            return ResponseEntity.ok(popular ? videoService.getPopularVideoItems() : videoService.getLatestVideoItems());
+        }
+        if (popular) {
             return ResponseEntity.ok(videoService.getPopularVideos());
         } else {
             // latest: updatedAt 기준으로 서비스에서 정렬
@@ -36,12 +66,20 @@ public class VideoController {
     }
 
     // 단일 영상 조회 (조회수 증가 포함) (비인증 허용)
+    // ETag 는 응답할 본문(상세 캐시 + 좋아요 여부)과 인코딩에서 만들고, If-None-Match 가 같으면 본문 없이 304
     @GetMapping("/{id}")
     public ResponseEntity<VideoResponseDto> getVideo(
             @PathVariable Long id,
-            @AuthenticationPrincipal LoginUserPrincipal userDetails) {
+            @AuthenticationPrincipal LoginUserPrincipal userDetails,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) {
         Long userId = (userDetails != null) ? Long.parseLong(userDetails.getUserId()) : null;
-        return ResponseEntity.ok(videoService.getVideo(id, userId));
+        MediaType format = ResponseFormats.negotiate(accept);
+        VideoResponseDto video = videoService.getVideo(id, userId);
+        if (webRequest.checkNotModified(videoService.getVideoETag(video, format))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).varyBy(HttpHeaders.ACCEPT).build();
+        }
+        return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).contentType(format).body(video);
     }
 
     // 영상 키워드 검색 (비인증 허용)
@@ -62,65 +100,74 @@ public class VideoController {
 
     // 본인이 팔로우 한 사람들의 영상 목록 조회 (인증 필요)
     @GetMapping("/following")
-    public ResponseEntity<?> getFollowingVideos(@AuthenticationPrincipal LoginUserPrincipal userDetails) {
+    public ResponseEntity<?> getFollowingVideos(@AuthenticationPrincipal LoginUserPrincipal userDetails,
+                                                @RequestParam(defaultValue = "false") boolean normalized) {
         if (userDetails == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("{\"error\":\"Unauthorized\"}");
         }
         Long userId = Long.parseLong(userDetails.getUserId());
+        if (normalized) {
+            return ResponseEntity.ok(videoService.getFollowingVideoItems(userId));
+        }
         return ResponseEntity.ok(videoService.getFollowingVideos(userId));
     }
 
     // ===================== 업로드 / 수정 =====================
 
     // 영상 업로드 (인증 필요) - 멀티파트
+    // S3 업로드/ffprobe 는 벌크헤드에서 진행되고 요청 스레드는 즉시 반환됨
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<?> uploadVideo(
+    public CompletableFuture<ResponseEntity<?>> uploadVideo(
             @AuthenticationPrincipal LoginUserPrincipal userDetails,
-            @ModelAttribute VideoRequestDto requestDto) throws IOException {
+            @ModelAttribute VideoRequestDto requestDto) {
 
         if (userDetails == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("{\"error\":\"Unauthorized\"}");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("{\"error\":\"Unauthorized\"}"));
         }
 
         // 업로드 필수값 1차 검증(컨트롤러 레벨에서 바로 400으로 돌려보냄)
         if (requestDto.getVideoFile() == null || requestDto.getVideoFile().isEmpty()) {
-            return ResponseEntity.badRequest().body("{\"error\":\"videoFile is required\"}");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body("{\"error\":\"videoFile is required\"}"));
         }
         if (requestDto.getTitle() == null || requestDto.getTitle().isBlank()) {
-            return ResponseEntity.badRequest().body("{\"error\":\"title is required\"}");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body("{\"error\":\"title is required\"}"));
         }
 
         // 사용자 주입
         requestDto.setUserId(Long.parseLong(userDetails.getUserId()));
 
-        VideoResponseDto responseDto = videoService.uploadVideo(requestDto);
-
-        // 201 Created + Location 헤더 (REST 관례)
-        HttpHeaders headers = new HttpHeaders();
-        headers.setLocation(URI.create("/videos/" + responseDto.getId()));
-        return new ResponseEntity<>(responseDto, headers, HttpStatus.CREATED);
+        return videoService.uploadVideo(requestDto).thenApply(responseDto -> {
+            // 201 Created + Location 헤더 (REST 관례)
+            HttpHeaders headers = new HttpHeaders();
+            headers.setLocation(URI.create("/videos/" + responseDto.getId()));
+            return new ResponseEntity<>(responseDto, headers, HttpStatus.CREATED);
+        });
     }
 
     // 영상 수정 (인증 필요) - 멀티파트
     @PutMapping(value = "/{id}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-    public ResponseEntity<?> updateVideo(
+    public CompletableFuture<ResponseEntity<?>> updateVideo(
             @PathVariable Long id,
             @AuthenticationPrincipal LoginUserPrincipal userDetails,
-            @ModelAttribute VideoRequestDto requestDto) throws IOException {
+            @ModelAttribute VideoRequestDto requestDto) {
 
         if (userDetails == null) {
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("{\"error\":\"Unauthorized\"}");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("{\"error\":\"Unauthorized\"}"));
         }
 
         // 수정 시에는 제목이 비어 있으면 400
         if (requestDto.getTitle() == null || requestDto.getTitle().isBlank()) {
-            return ResponseEntity.badRequest().body("{\"error\":\"title is required\"}");
+            return CompletableFuture.completedFuture(
+                    ResponseEntity.badRequest().body("{\"error\":\"title is required\"}"));
         }
         // videoFile/thumbnailFile은 선택(없으면 기존 유지) → 서비스에서 처리
-
         Long userId = Long.parseLong(userDetails.getUserId());
-        VideoResponseDto dto = videoService.updateVideo(id, requestDto, userId);
-        return ResponseEntity.ok(dto);
+        return videoService.updateVideo(id, requestDto, userId)
+                .thenApply(ResponseEntity::ok);
     }
 
     // 영상 삭제 (인증 필요)
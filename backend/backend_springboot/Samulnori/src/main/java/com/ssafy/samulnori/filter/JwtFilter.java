@@ -1,8 +1,11 @@
 package com.ssafy.samulnori.filter;
 
+import com.ssafy.samulnori.jfr.JwtVerifyEvent;
 import com.ssafy.samulnori.model.dto.auth.AuthUserDTO;
 import com.ssafy.samulnori.oauth2.LoginUserPrincipal;
 import com.ssafy.samulnori.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -15,10 +18,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.Date;
+import java.util.regex.Pattern;
 
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
+    private static final Pattern COMMENTS_ROUTE = Pattern.compile("^/videos/\\d+/comments(/\\d+/replies)?$");
+
     private final JwtUtil jwtUtil;
 
     @Override
@@ -39,36 +46,25 @@ public class JwtFilter extends OncePerRequestFilter {
         }
 
         // 인증 필요 없는 경로 직접 분기
-        if (
-                uri.startsWith("/auth/signup") ||
-                        uri.startsWith("/auth/login") ||
-                        uri.startsWith("/auth/refresh") ||
-                        uri.startsWith("/auth/logout") ||
-                        uri.startsWith("/api/files") ||
-                        ((uri.startsWith("/videos") && method.equals("GET") && !uri.equals("/videos/my") && !uri.equals("/videos/following"))) ||  // ✅ 괄호 추가됨
-                        (uri.startsWith("/videos/search") && method.equals("GET")) ||
-                        (uri.startsWith("/users/search")) ||
-                        (uri.startsWith("/users/") && uri.endsWith("/profile")) ||
-                        (uri.startsWith("/follow/followers")) ||
-                        (uri.startsWith("follow/followings")) ||
-                        (uri.matches("^/videos/\\d+/comments(/\\d+/replies)?$") && method.equals("GET"))
-        ){
+        if (isPermitAllRoute(uri, method)) {
             filterChain.doFilter(request, response);
             return;
         }
 
         String token = extractTokenFromCookies(request);
 
-        if (token == null || jwtUtil.isExpired(token)) {
+        // 서명 검증/파싱은 요청당 한 번만
+        Claims claims = token != null ? verify(token) : null;
+        if (claims == null || claims.getExpiration().before(new Date())) {
             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED); // 401
             response.setContentType("application/json");
             response.getWriter().write("{\"error\": \"Access token is missing or expired.\"}");
             return;
         }
 
-        String loginName = jwtUtil.getLoginName(token);
-        String role = jwtUtil.getRole(token);
-        String id = jwtUtil.getId(token);
+        String loginName = claims.get("loginName", String.class);
+        String role = claims.get("role", String.class);
+        String id = claims.get("id", String.class);
 
         // DTO 생성 및 인증 객체 구성
         AuthUserDTO authUserDTO = new AuthUserDTO();
@@ -85,6 +81,48 @@ public class JwtFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // ✅ 인증 없이 통과시키는 경로 판별 (모든 요청마다 호출되는 경로이므로 정규식은 미리 컴파일)
+    public static boolean isPermitAllRoute(String uri, String method) {
+        return uri.startsWith("/auth/signup") ||
+                uri.startsWith("/auth/login") ||
+                uri.startsWith("/auth/refresh") ||
+                uri.startsWith("/auth/logout") ||
+                uri.startsWith("/api/files") ||
+                (uri.startsWith("/files/") && (method.equals("GET") || method.equals("HEAD"))) ||
+                (uri.startsWith("/media/") && (method.equals("GET") || method.equals("HEAD"))) ||
+                (uri.startsWith("/spool/") && (method.equals("GET") || method.equals("HEAD"))) ||
+                ((uri.startsWith("/videos") && method.equals("GET") && !uri.equals("/videos/my") && !uri.equals("/videos/following"))) ||  // ✅ 괄호 추가됨
+                (uri.startsWith("/videos/search") && method.equals("GET")) ||
+                (uri.startsWith("/users/search")) ||
+                (uri.startsWith("/users/") && (uri.endsWith("/profile") || uri.endsWith("/profile/videos"))) ||
+                (uri.startsWith("/follow/followers")) ||
+                (uri.startsWith("/follow/followings")) ||
+                (COMMENTS_ROUTE.matcher(uri).matches() && method.equals("GET")) ||
+                (uri.startsWith("/actuator/") && !uri.startsWith("/actuator/jfr"));  // 관리 포트 전용, JFR 제어는 토큰 필요
+    }
+
+    // ✅ 토큰 검증 (녹화 중이면 JwtVerifyEvent 로 소요 시간/결과 기록)
+    private Claims verify(String token) {
+        JwtVerifyEvent event = new JwtVerifyEvent();
+        event.begin();
+        String outcome = "invalid";
+        Claims claims = null;
+        try {
+            claims = jwtUtil.getClaims(token);
+            outcome = claims.getExpiration().before(new Date()) ? "expired" : "valid";
+            return claims;
+        } catch (ExpiredJwtException e) {
+            outcome = "expired";
+            throw e;
+        } finally {
+            if (event.shouldCommit()) {
+                event.outcome = outcome;
+                event.userId = claims != null ? claims.get("id", String.class) : null;
+                event.commit();
+            }
+        }
+    }
+
     // ✅ 쿠키에서 Authorization 추출 (널 체크 포함)
     private String extractTokenFromCookies(HttpServletRequest request) {
         Cookie[] cookies = request.getCookies();
@@ -0,0 +1,95 @@
+package com.ssafy.samulnori.filter;
+
+import com.ssafy.samulnori.util.QueryCounter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * 요청 단위 쿼리 수/DB 시간을 응답 헤더로 노출 (prod 프로파일 제외, QueryCountConfig 에서 등록)
+ * - X-Query-Count: 실행된 JDBC 문장 수
+ * - X-DB-Time: JDBC 실행 시간 합계 (ms)
+ * 헤더는 응답이 커밋되기 직전(본문 쓰기 시작, sendError/sendRedirect)에 붙임
+ * 비동기 응답은 컨트롤러가 반환할 때까지의 동기 구간만 집계
+ */
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String DB_TIME_HEADER = "X-DB-Time";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.Counts counts = QueryCounter.start();
+        CountingResponse wrapped = new CountingResponse(response, counts);
+        try {
+            filterChain.doFilter(request, wrapped);
+        } finally {
+            wrapped.writeHeaders();
+            QueryCounter.stop();
+        }
+    }
+
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private final QueryCounter.Counts counts;
+        private boolean written;
+
+        CountingResponse(HttpServletResponse response, QueryCounter.Counts counts) {
+            super(response);
+            this.counts = counts;
+        }
+
+        void writeHeaders() {
+            if (written || isCommitted()) {
+                return;
+            }
+            written = true;
+            setHeader(QUERY_COUNT_HEADER, String.valueOf(counts.getStatements()));
+            setHeader(DB_TIME_HEADER, String.valueOf(counts.getDbTimeMillis()));
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            writeHeaders();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            writeHeaders();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            writeHeaders();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            writeHeaders();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            writeHeaders();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            writeHeaders();
+            super.sendRedirect(location);
+        }
+    }
+}
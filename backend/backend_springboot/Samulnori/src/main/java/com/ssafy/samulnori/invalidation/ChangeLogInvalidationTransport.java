@@ -0,0 +1,126 @@
+package com.ssafy.samulnori.invalidation;
+
+import com.ssafy.samulnori.model.entity.CacheChange;
+import com.ssafy.samulnori.model.repository.CacheChangeRepository;
+import com.ssafy.samulnori.util.SnowflakeIds;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * DB 변경 로그(cache_changes) 폴링 방식 (별도 메시지 브로커 없이 다중 인스턴스 지원)
+ * - send: 변경과 같은 트랜잭션에 한 행 기록 → 롤백되면 기록도 사라짐
+ * - 폴링: 최근 lookback 구간의 다른 인스턴스 행을 주기적으로 읽고, 이미 적용한 행은 건너뜀
+ *   ID(발급 시각) 순과 커밋 순서가 다를 수 있어 "마지막으로 본 ID 이후" 가 아니라 구간으로 읽음
+ *   → lookback 은 가장 긴 쓰기 트랜잭션 + 인스턴스 간 시계 차이보다 길어야 함
+ * - 보관 기간이 지난 행은 어느 인스턴스든 폴링하면서 정리
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "changelog", matchIfMissing = true)
+public class ChangeLogInvalidationTransport implements InvalidationTransport {
+
+    private final CacheChangeRepository cacheChangeRepository;
+    private final Duration pollInterval;
+    private final Duration lookback;
+    private final Duration retention;
+    private final String origin = UUID.randomUUID().toString();
+
+    // 폴링 스레드만 접근
+    private final NavigableSet<Long> applied = new TreeSet<>();
+    private Instant lastPurge = Instant.EPOCH;
+
+    private ScheduledExecutorService poller;
+    private Consumer<Invalidation> receiver;
+
+    public ChangeLogInvalidationTransport(CacheChangeRepository cacheChangeRepository,
+                                          @Value("${cache.invalidation.poll-interval}") Duration pollInterval,
+                                          @Value("${cache.invalidation.lookback}") Duration lookback,
+                                          @Value("${cache.invalidation.retention}") Duration retention) {
+        this.cacheChangeRepository = cacheChangeRepository;
+        this.pollInterval = pollInterval;
+        this.lookback = lookback;
+        this.retention = retention;
+    }
+
+    @Override
+    public void send(EntityType type, long id) {
+        cacheChangeRepository.save(CacheChange.builder()
+                .entityType(type)
+                .entityId(id)
+                .origin(origin)
+                .build());
+    }
+
+    @Override
+    public synchronized void start(Consumer<Invalidation> receiver) {
+        if (this.receiver != null) {
+            throw new IllegalStateException("이미 시작된 전송 계층입니다.");
+        }
+        this.receiver = receiver;
+        poller = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "cache-invalidation-poller");
+            t.setDaemon(true);
+            return t;
+        });
+        long millis = pollInterval.toMillis();
+        poller.scheduleWithFixedDelay(this::pollSafely, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (poller != null) {
+            poller.shutdown();
+            poller.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            // DB 일시 장애: 다음 주기에 같은 구간을 다시 읽음
+            log.warn("캐시 무효화 로그 조회 실패", e);
+        }
+    }
+
+    /** 새로 읽어 적용한 변경 수 */
+    int poll() {
+        Instant now = Instant.now();
+        long since = SnowflakeIds.lowerBound(now.minus(lookback));
+        applied.headSet(since).clear();
+
+        int count = 0;
+        for (CacheChange change : cacheChangeRepository.findByIdGreaterThanEqualAndOriginNotOrderByIdAsc(since, origin)) {
+            if (applied.add(change.getId())) {
+                receiver.accept(new Invalidation(change.getEntityType(), change.getEntityId(), change.getId()));
+                count++;
+            }
+        }
+
+        if (Duration.between(lastPurge, now).compareTo(retention) > 0) {
+            lastPurge = now;
+            int purged = cacheChangeRepository.deleteOlderThan(SnowflakeIds.lowerBound(now.minus(retention)));
+            if (purged > 0) {
+                log.debug("캐시 무효화 로그 {}건 정리", purged);
+            }
+        }
+        return count;
+    }
+
+    String getOrigin() {
+        return origin;
+    }
+}
@@ -0,0 +1,11 @@
+package com.ssafy.samulnori.invalidation;
+
+/**
+ * 인스턴스 안에 캐시되는 엔티티 종류 (무효화 대상)
+ */
+public enum EntityType {
+    VIDEO,
+    USER,
+    // 사용자 프로필 페이지 (사용자 ID, 그 사용자의 영상 등록/수정/삭제)
+    PROFILE
+}
@@ -0,0 +1,35 @@
+package com.ssafy.samulnori.invalidation;
+
+import com.ssafy.samulnori.util.AfterCommit;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 같은 프로세스 안의 구독자에게 커밋 후 바로 전달 (단일 인스턴스, 테스트용)
+ * 보낸 쪽도 받음 → 무효화는 여러 번 적용해도 결과가 같음
+ */
+@Component
+@ConditionalOnProperty(name = "cache.invalidation.transport", havingValue = "memory")
+public class InMemoryInvalidationTransport implements InvalidationTransport {
+
+    private final List<Consumer<Invalidation>> receivers = new CopyOnWriteArrayList<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    @Override
+    public void send(EntityType type, long id) {
+        AfterCommit.run(() -> {
+            Invalidation invalidation = new Invalidation(type, id, versions.incrementAndGet());
+            receivers.forEach(r -> r.accept(invalidation));
+        });
+    }
+
+    @Override
+    public void start(Consumer<Invalidation> receiver) {
+        receivers.add(receiver);
+    }
+}
@@ -0,0 +1,8 @@
+package com.ssafy.samulnori.invalidation;
+
+/**
+ * 다른 인스턴스에서 받은 무효화
+ * version: 전송 계층이 매긴 변경 순번 (시각 순, 같은 변경을 두 번 받았는지 판별용)
+ */
+public record Invalidation(EntityType type, long id, long version) {
+}
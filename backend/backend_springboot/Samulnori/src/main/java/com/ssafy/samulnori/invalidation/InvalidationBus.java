@@ -0,0 +1,75 @@
+package com.ssafy.samulnori.invalidation;
+
+import com.ssafy.samulnori.util.AfterCommit;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 안 캐시(영상 상세, 사용자 카드 등)의 무효화 창구
+ * - 캐시는 자기가 담는 엔티티 종류를 subscribe
+ * - 변경하는 쪽은 publish(종류, ID): 이 인스턴스는 커밋 후 바로 적용, 다른 인스턴스는 전송 계층으로 전달
+ * - 다른 인스턴스에서 늦게 오는 동안에는 각 캐시의 TTL 이 상한
+ */
+@Slf4j
+@Component
+public class InvalidationBus {
+
+    private final InvalidationTransport transport;
+    private final Map<EntityType, List<Consumer<Long>>> handlers = new EnumMap<>(EntityType.class);
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+
+    public InvalidationBus(InvalidationTransport transport) {
+        this.transport = transport;
+        for (EntityType type : EntityType.values()) {
+            handlers.put(type, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        transport.start(this::receive);
+    }
+
+    public void subscribe(EntityType type, Consumer<Long> handler) {
+        handlers.get(type).add(handler);
+    }
+
+    /** 변경 트랜잭션 안에서 호출 (트랜잭션 밖이면 바로 적용/전송) */
+    public void publish(EntityType type, Long id) {
+        AfterCommit.run(() -> apply(type, id));
+        transport.send(type, id);
+        published.incrementAndGet();
+    }
+
+    private void receive(Invalidation invalidation) {
+        received.incrementAndGet();
+        apply(invalidation.type(), invalidation.id());
+    }
+
+    private void apply(EntityType type, Long id) {
+        for (Consumer<Long> handler : handlers.get(type)) {
+            try {
+                handler.accept(id);
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 실패: {} {}", type, id, e);
+            }
+        }
+    }
+
+    public long getPublishedCount() {
+        return published.get();
+    }
+
+    public long getReceivedCount() {
+        return received.get();
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.samulnori.invalidation;
+
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 무효화 전달 방식
+ * - send 는 호출한 트랜잭션 안에서 불림 → 롤백된 변경은 다른 인스턴스에 전달되지 않아야 함
+ * - 수신 콜백은 전송 계층의 스레드에서 호출될 수 있음
+ */
+public interface InvalidationTransport {
+
+    void send(EntityType type, long id);
+
+    void start(Consumer<Invalidation> receiver);
+}
@@ -0,0 +1,26 @@
+package com.ssafy.samulnori.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("samulnori.FeedAssembly")
+@Label("Feed Assembly")
+@Category({"Samulnori", "Feed"})
+@Description("영상 목록 조회 + 응답 DTO 변환 (직렬화 제외)")
+@StackTrace(false)
+public class FeedAssemblyEvent extends jdk.jfr.Event {
+
+    @Label("Feed")
+    @Description("latest / popular / following / user / search")
+    public String feed;
+
+    @Label("User Id")
+    @Description("팔로잉 피드의 조회자 또는 사용자별 목록의 대상, 없으면 0")
+    public long userId;
+
+    @Label("Videos")
+    public int videos;
+}
@@ -0,0 +1,175 @@
+package com.ssafy.samulnori.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * 운영 중 JFR 녹화 제어 (관리 포트의 /actuator/jfr)
+ * - POST   /actuator/jfr {"settings":"default|profile","durationSeconds":..,"maxSizeMb":..} : 녹화 시작
+ * - GET    /actuator/jfr               : 상태
+ * - DELETE /actuator/jfr               : 즉시 중지 후 파일로 저장
+ * - GET    /actuator/jfr/{file}        : 저장된 .jfr 다운로드
+ * 녹화 길이/크기는 설정 상한으로 잘라내고, 기간이 끝나면 자동 중지. 파일은 최근 N개만 보관
+ * 동시에 하나의 녹화만 허용
+ * 스택 트레이스/스레드 이름/도메인 이벤트 값이 담기므로 ROLE_ADMIN 토큰으로만 접근 (SecurityConfig)
+ */
+@Component
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final Pattern FILE_NAME = Pattern.compile("samulnori-\\d+\\.jfr");
+
+    private final Path dir;
+    private final Duration maxDuration;
+    private final DataSize maxSize;
+    private final int keepFiles;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private Recording recording;
+    private Path file;
+
+    public JfrRecordingEndpoint(@Value("${jfr.recording.dir}") String dir,
+                                @Value("${jfr.recording.max-duration}") Duration maxDuration,
+                                @Value("${jfr.recording.max-size}") DataSize maxSize,
+                                @Value("${jfr.recording.keep-files}") int keepFiles) {
+        this.dir = Path.of(dir);
+        this.maxDuration = maxDuration;
+        this.maxSize = maxSize;
+        this.keepFiles = keepFiles;
+    }
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        lock.lock();
+        try {
+            Map<String, Object> status = new LinkedHashMap<>();
+            status.put("state", recording == null ? "NONE" : recording.getState().name());
+            if (recording != null) {
+                status.put("startTime", recording.getStartTime());
+                status.put("duration", recording.getDuration());
+                status.put("maxSize", recording.getMaxSize());
+                status.put("file", file.getFileName().toString());
+            }
+            status.put("files", listFiles().stream().map(p -> p.getFileName().toString()).toList());
+            return status;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @WriteOperation
+    public Map<String, Object> start(@Nullable String settings, @Nullable Long durationSeconds, @Nullable Long maxSizeMb)
+            throws IOException, ParseException {
+        String configName = settings == null ? "default" : settings;
+        if (!configName.equals("default") && !configName.equals("profile")) {
+            throw new IllegalArgumentException("settings 는 default 또는 profile 만 가능합니다.");
+        }
+        if (durationSeconds != null && durationSeconds <= 0) {
+            throw new IllegalArgumentException("durationSeconds 는 1 이상이어야 합니다.");
+        }
+        if (maxSizeMb != null && maxSizeMb <= 0) {
+            throw new IllegalArgumentException("maxSizeMb 는 1 이상이어야 합니다.");
+        }
+        Duration duration = durationSeconds == null ? maxDuration
+                : min(Duration.ofSeconds(durationSeconds), maxDuration);
+        long size = maxSizeMb == null ? maxSize.toBytes()
+                : Math.min(DataSize.ofMegabytes(maxSizeMb).toBytes(), maxSize.toBytes());
+
+        lock.lock();
+        try {
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                throw new IllegalStateException("이미 녹화 중입니다: " + file.getFileName());
+            }
+            if (recording != null) {
+                recording.close();
+            }
+            Files.createDirectories(dir);
+            pruneFiles(keepFiles - 1);
+
+            file = dir.resolve("samulnori-" + Instant.now().toEpochMilli() + ".jfr");
+            recording = new Recording(Configuration.getConfiguration(configName));
+            recording.setName("samulnori");
+            recording.setToDisk(true);
+            recording.setMaxSize(size);
+            // 기간이 지나면 JVM 이 자동으로 멈추고 destination 에 기록
+            recording.setDuration(duration);
+            recording.setDestination(file);
+            recording.start();
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @DeleteOperation
+    public Map<String, Object> stop() {
+        lock.lock();
+        try {
+            if (recording != null && recording.getState() == RecordingState.RUNNING) {
+                // stop() 시 destination 으로 기록됨
+                recording.stop();
+            }
+            return status();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public Resource download(@Selector String name) {
+        if (!FILE_NAME.matcher(name).matches() || !Files.isRegularFile(dir.resolve(name))) {
+            return null;  // 404
+        }
+        return new FileSystemResource(dir.resolve(name));
+    }
+
+    private List<Path> listFiles() {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> FILE_NAME.matcher(p.getFileName().toString()).matches())
+                    .sorted(Comparator.comparing(Path::toString))
+                    .toList();
+        } catch (IOException e) {
+            return List.of();
+        }
+    }
+
+    private void pruneFiles(int keep) throws IOException {
+        List<Path> files = listFiles();
+        for (int i = 0; i < files.size() - Math.max(keep, 0); i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+    }
+
+    private static Duration min(Duration a, Duration b) {
+        return a.compareTo(b) <= 0 ? a : b;
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.samulnori.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("samulnori.JwtVerify")
+@Label("JWT Verify")
+@Category({"Samulnori", "Security"})
+@Description("JwtFilter 의 액세스 토큰 서명 검증 + 클레임 파싱")
+@StackTrace(false)
+public class JwtVerifyEvent extends jdk.jfr.Event {
+
+    @Label("User Id")
+    public String userId;
+
+    @Label("Outcome")
+    @Description("valid / expired / invalid")
+    public String outcome;
+}
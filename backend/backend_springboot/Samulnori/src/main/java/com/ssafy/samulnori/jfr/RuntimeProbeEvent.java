@@ -0,0 +1,27 @@
+package com.ssafy.samulnori.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("samulnori.RuntimeProbe")
+@Label("Runtime Probe")
+@Category({"Samulnori", "Upload"})
+@Description("ffprobe 로 영상 길이 계산 (임시 파일 복사 포함)")
+@StackTrace(false)
+public class RuntimeProbeEvent extends jdk.jfr.Event {
+
+    @Label("File Name")
+    public String fileName;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Runtime Seconds")
+    @Description("0 이면 계산 실패")
+    public int runtimeSeconds;
+}
@@ -0,0 +1,29 @@
+package com.ssafy.samulnori.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("samulnori.S3Put")
+@Label("S3 Put")
+@Category({"Samulnori", "Storage"})
+@Description("미디어 업로드 1건 (S3Uploader → BlobStore.put)")
+@StackTrace(false)
+public class S3PutEvent extends jdk.jfr.Event {
+
+    @Label("Key")
+    public String key;
+
+    @Label("Size")
+    @DataAmount
+    public long bytes;
+
+    @Label("Content Type")
+    public String contentType;
+
+    @Label("Success")
+    public boolean success;
+}
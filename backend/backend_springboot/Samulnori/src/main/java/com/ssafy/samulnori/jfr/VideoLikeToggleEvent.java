@@ -0,0 +1,25 @@
+package com.ssafy.samulnori.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("samulnori.VideoLikeToggle")
+@Label("Video Like Toggle")
+@Category({"Samulnori", "Like"})
+@StackTrace(false)
+public class VideoLikeToggleEvent extends jdk.jfr.Event {
+
+    @Label("User Id")
+    public long userId;
+
+    @Label("Video Id")
+    public long videoId;
+
+    @Label("Liked")
+    public boolean liked;
+
+    @Label("Like Count")
+    public int likeCount;
+}
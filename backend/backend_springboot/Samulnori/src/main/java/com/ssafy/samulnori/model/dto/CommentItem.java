@@ -0,0 +1,22 @@
+package com.ssafy.samulnori.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정규화 목록(NormalizedPage)의 댓글 항목
+ * 작성자는 userId 로만 참조, 나머지 필드 이름은 CommentResponseDto 의 JSON 과 같음
+ */
+public record CommentItem(Long id,
+                          Long userId,
+                          String content,
+                          @JsonFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime createdAt,
+                          Long parentCommentId,
+                          boolean liked,
+                          int likeCount) {
+
+    public CommentItem withLiked(boolean liked) {
+        return new CommentItem(id, userId, content, createdAt, parentCommentId, liked, likeCount);
+    }
+}
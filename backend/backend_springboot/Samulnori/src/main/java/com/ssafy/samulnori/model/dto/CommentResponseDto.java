@@ -4,12 +4,16 @@ import lombok.Builder;
 import lombok.Getter;
 
 
+import com.ssafy.samulnori.model.dto.user.UserCard;
 import com.ssafy.samulnori.model.entity.Comment;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
 import java.time.format.DateTimeFormatter;
 
 @Getter
 @Builder
 public class CommentResponseDto {
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private Long id;               // 댓글 ID
     private Long userId;           // 작성자 ID
     private String nickname;       // 작성자 닉네임
@@ -22,19 +26,18 @@ public class CommentResponseDto {
     private int likeCount;
 
 
-    public static CommentResponseDto from(Comment comment) {
-        return from(comment, false, comment.getLikeCnt()); // 기본값 적용
+    public static CommentResponseDto from(Comment comment, UserCard author, MediaUrlResolver urls) {
+        return from(comment, author, false, comment.getLikeCnt(), urls); // 기본값 적용
     }
 
-    public static CommentResponseDto from(Comment comment, boolean isLiked, int likeCount) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    public static CommentResponseDto from(Comment comment, UserCard author, boolean isLiked, int likeCount, MediaUrlResolver urls) {
         return CommentResponseDto.builder()
                 .id(comment.getId())
-                .userId(comment.getUser().getId())
-                .nickname(comment.getUser().getNickname())
-                .profileImage(comment.getUser().getProfileImg())
+                .userId(author.id())
+                .nickname(author.nickname())
+                .profileImage(urls.resolve(author.profileImg()))
                 .content(comment.getContent())
-                .createdAt(comment.getCreatedAt().format(formatter))
+                .createdAt(comment.getCreatedAt().format(DATE_TIME_FORMAT))
                 .parentCommentId(comment.getParentComment() != null ? comment.getParentComment().getId() : null)
                 .isLiked(isLiked)
                 .likeCount(likeCount)
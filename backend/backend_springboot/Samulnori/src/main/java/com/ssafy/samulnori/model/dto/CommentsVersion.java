@@ -0,0 +1,10 @@
+package com.ssafy.samulnori.model.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 영상의 댓글 목록 버전 (대댓글 포함 집계)
+ * 추가/삭제는 count, 수정과 좋아요 토글은 lastModified 로 드러남
+ */
+public record CommentsVersion(long count, LocalDateTime lastModified) {
+}
@@ -0,0 +1,22 @@
+package com.ssafy.samulnori.model.dto;
+
+import com.ssafy.samulnori.model.dto.user.UserCard;
+import com.ssafy.samulnori.model.dto.user.UserDTO;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정규화 목록 응답 (?normalized=true)
+ * 항목은 사용자 ID 만 갖고, 사용자 정보는 users 에 한 번씩만 → 같은 업로더/작성자가 여러 번 나오는 목록의 크기와 직렬화 비용 절감
+ */
+public record NormalizedPage<T>(List<T> items, Map<Long, UserDTO> users) {
+
+    public static <T> NormalizedPage<T> of(List<T> items, Map<Long, UserCard> cards, MediaUrlResolver urls) {
+        Map<Long, UserDTO> users = new LinkedHashMap<>();
+        cards.forEach((id, card) -> users.put(id, UserDTO.from(card, urls)));
+        return new NormalizedPage<>(items, users);
+    }
+}
@@ -0,0 +1,31 @@
+package com.ssafy.samulnori.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+
+import java.time.LocalDateTime;
+
+/**
+ * 정규화 목록(NormalizedPage)의 영상 항목
+ * - JPQL 생성자 projection 으로 바로 채움 (엔티티/업로더 로드 없음), 업로더는 uploaderId 로만 참조
+ * - 필드 이름과 날짜 형식은 VideoResponseDto 와 같음 (uploader, likedByCurrentUser 제외)
+ */
+public record VideoItem(Long id,
+                        Long uploaderId,
+                        String title,
+                        String description,
+                        String videoUrl,
+                        String thumbnailUrl,
+                        Integer runtime,
+                        @JsonFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime createdAt,
+                        @JsonFormat(pattern = "yyyy-MM-dd HH:mm") LocalDateTime updatedAt,
+                        int viewCnt,
+                        int likeCnt,
+                        int commentCnt) {
+
+    // 저장된 URL → 응답용 URL
+    public VideoItem withResolvedUrls(MediaUrlResolver urls) {
+        return new VideoItem(id, uploaderId, title, description, urls.resolve(videoUrl), urls.resolve(thumbnailUrl),
+                runtime, createdAt, updatedAt, viewCnt, likeCnt, commentCnt);
+    }
+}
@@ -1,14 +1,20 @@
 package com.ssafy.samulnori.model.dto;
+import com.ssafy.samulnori.model.dto.user.UserCard;
 import com.ssafy.samulnori.model.dto.user.UserDTO;
 import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.With;
 
 import java.time.format.DateTimeFormatter;
 
 @Getter
 @Builder
 public class VideoResponseDto {
+    // DateTimeFormatter 는 불변·스레드 안전 → 목록의 DTO 마다 새로 만들지 않음
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
     private Long id;                   // 영상 ID
     private UserDTO uploader;          // 업로더 사용자 정보 (UserDTO)
     private String title;              // 영상 제목
@@ -22,23 +28,25 @@ public class VideoResponseDto {
     private int likeCnt;               // 좋아요 수
     private int commentCnt;            // 댓글 수
 
+    @With // 캐시된 공통 DTO 에 사용자별 값만 바꾼 사본
     private boolean likedByCurrentUser;
 
-    public static VideoResponseDto from(Video video) {
-        return from(video, false);
+    // 업로더가 이미 로드된 경우 (등록/수정 직후)
+    public static VideoResponseDto from(Video video, MediaUrlResolver urls) {
+        return from(video, UserCard.of(video.getUser()), false, urls);
     }
 
-    public static VideoResponseDto from(Video video, boolean likedByCurrentUser) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+    // 저장된 URL 은 응답 시점에 urls 로 변환 (비공개 버킷 → presigned URL)
+    public static VideoResponseDto from(Video video, UserCard uploaderCard, boolean likedByCurrentUser, MediaUrlResolver urls) {
 
         UserDTO uploader = new UserDTO();
-        uploader.setId(video.getUser().getId());
-        uploader.setNickname(video.getUser().getNickname());
-        uploader.setProfileImg(video.getUser().getProfileImg());
+        uploader.setId(uploaderCard.id());
+        uploader.setNickname(uploaderCard.nickname());
+        uploader.setProfileImg(urls.resolve(uploaderCard.profileImg()));
 
-        String createdAtStr = video.getCreatedAt() != null ? video.getCreatedAt().format(formatter) : null;
+        String createdAtStr = video.getCreatedAt() != null ? video.getCreatedAt().format(DATE_TIME_FORMAT) : null;
         String updatedAtStr = video.getUpdatedAt() != null
-                ? video.getUpdatedAt().format(formatter)
+                ? video.getUpdatedAt().format(DATE_TIME_FORMAT)
                 : createdAtStr; // updatedAt 없으면 createdAt로 대체
 
         return VideoResponseDto.builder()
@@ -46,8 +54,8 @@ public class VideoResponseDto {
                 .uploader(uploader)
                 .title(video.getTitle())
                 .description(video.getDescription())
-                .videoUrl(video.getVideoUrl())
-                .thumbnailUrl(video.getThumbnailUrl())
+                .videoUrl(urls.resolve(video.getVideoUrl()))
+                .thumbnailUrl(urls.resolve(video.getThumbnailUrl()))
                 .runtime(video.getRuntime())
                 .createdAt(createdAtStr)
                 .updatedAt(updatedAtStr)
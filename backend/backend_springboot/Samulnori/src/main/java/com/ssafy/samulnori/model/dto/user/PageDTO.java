@@ -10,6 +10,8 @@ import lombok.Getter;
 @Builder
 public class PageDTO {
     private UserDTO userDTO;
-    private List<VideoResponseDto> videos;
+    private List<VideoResponseDto> videos;   // 첫 페이지 (최신 업로드순)
+    private Long nextCursor;                 // 다음 페이지: GET /users/{id}/profile/videos?cursor= (없으면 null)
+    private long videoCount;                 // 전체 업로드 수
     private String introduce;
 }
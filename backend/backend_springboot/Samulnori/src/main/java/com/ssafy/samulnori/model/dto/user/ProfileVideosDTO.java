@@ -0,0 +1,15 @@
+package com.ssafy.samulnori.model.dto.user;
+
+import java.util.List;
+
+import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import lombok.Builder;
+import lombok.Getter;
+
+// 프로필 영상 목록의 한 페이지 (키셋: nextCursor 보다 작은 ID 부터 이어서)
+@Getter
+@Builder
+public class ProfileVideosDTO {
+    private List<VideoResponseDto> videos;
+    private Long nextCursor;
+}
@@ -0,0 +1,20 @@
+package com.ssafy.samulnori.model.dto.user;
+
+import com.ssafy.samulnori.model.entity.UserEntity;
+
+/**
+ * 카드 형태(업로더, 댓글 작성자, 팔로우 목록, 사용자 검색)로 표시하는 사용자 필드만 담은 불변 값
+ * profileImg 는 저장된 URL 그대로 → presigned URL 변환은 응답 시점에 (UserDTO.from)
+ */
+public record UserCard(Long id, String nickname, String profileImg, int followerCnt) {
+
+    /** 이미 로드된 엔티티에서 바로 만들 때 (캐시를 거치지 않음) */
+    public static UserCard of(UserEntity user) {
+        return new UserCard(user.getId(), user.getNickname(), user.getProfileImg(), user.getFollowerCnt());
+    }
+
+    /** 조회 도중 탈퇴한 사용자 (카드가 없을 때 ID 만 표시) */
+    public static UserCard missing(Long id) {
+        return new UserCard(id, null, null, 0);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.samulnori.model.dto.user;
 
+import com.ssafy.samulnori.storage.MediaUrlResolver;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,4 +17,9 @@ public class UserDTO {
     private Long id;
     private String profileImg;
     private int followerCnt;
+
+    // 저장된 URL 은 응답 시점에 urls 로 변환 (비공개 버킷 → presigned URL)
+    public static UserDTO from(UserCard card, MediaUrlResolver urls) {
+        return new UserDTO(card.nickname(), card.id(), urls.resolve(card.profileImg()), card.followerCnt());
+    }
 }
@@ -0,0 +1,34 @@
+package com.ssafy.samulnori.model.entity;
+
+import com.ssafy.samulnori.invalidation.EntityType;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 인스턴스 간 캐시 무효화 변경 로그 (ChangeLogInvalidationTransport)
+ * 변경과 같은 트랜잭션에 기록 → 커밋된 변경만 다른 인스턴스가 읽음
+ */
+@Entity
+@Table(name = "cache_changes")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CacheChange {
+
+    // 발급 시각 순 → 폴링 범위 겸 변경 순번(version)
+    @Id
+    @SnowflakeId
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    // 기록한 인스턴스 (자기가 쓴 변경은 읽지 않음)
+    @Column(nullable = false, length = 36)
+    private String origin;
+}
@@ -16,10 +16,11 @@ import java.util.List;
 public class Comment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;  // 댓글 ID
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // 목록 조회는 리포지토리의 @EntityGraph 로 함께 가져옴
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;  // 작성자
 
@@ -44,12 +45,21 @@ public class Comment {
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;  // 내용 수정/좋아요 수 변경 시각 (댓글 목록 ETag 용)
+
     @Column(name = "like_cnt")
     private int likeCnt;
 
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now();
     }
 
     public void updateContent(String content) {
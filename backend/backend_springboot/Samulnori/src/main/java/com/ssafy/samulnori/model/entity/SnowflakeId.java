@@ -0,0 +1,18 @@
+package com.ssafy.samulnori.model.entity;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 애플리케이션에서 발급하는 시간 순 ID (SnowflakeIds)
+ * IDENTITY 와 달리 INSERT 전에 ID 가 정해지므로 Hibernate JDBC 배치(hibernate.jdbc.batch_size)가 동작
+ */
+@IdGeneratorType(SnowflakeIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface SnowflakeId {
+}
@@ -0,0 +1,63 @@
+package com.ssafy.samulnori.model.entity;
+
+import com.ssafy.samulnori.util.SnowflakeIds;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.springframework.util.StringUtils;
+
+import java.lang.reflect.Member;
+import java.net.InetAddress;
+import java.util.EnumSet;
+
+/**
+ * @SnowflakeId 구현: 노드 ID 는 Hibernate 설정 samulnori.id.node (spring.jpa.properties.samulnori.id.node ← ID_NODE)
+ * 지정하지 않으면 호스트 이름 해시로 정함 → 인스턴스가 여럿이면 충돌 가능하므로 운영에서는 지정
+ * (Hibernate 가 Spring 빈 컨테이너로 생성하므로 기본 생성자 + initialize 방식)
+ */
+@Slf4j
+public class SnowflakeIdGenerator implements BeforeExecutionGenerator, AnnotationBasedGenerator<SnowflakeId> {
+
+    public static final String NODE_SETTING = "samulnori.id.node";
+
+    private SnowflakeIds ids;
+
+    @Override
+    public void initialize(SnowflakeId annotation, Member member, GeneratorCreationContext context) {
+        String node = context.getServiceRegistry().requireService(ConfigurationService.class)
+                .getSetting(NODE_SETTING, value -> value == null ? null : value.toString().trim());
+        this.ids = SnowflakeIds.forNode(StringUtils.hasText(node) ? Integer.parseInt(node) : HostNode.NODE);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return ids.next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    // 엔티티마다 생성기가 만들어지므로 호스트 이름 유도/경고는 한 번만
+    private static final class HostNode {
+
+        static final int NODE;
+
+        static {
+            String host;
+            try {
+                host = InetAddress.getLocalHost().getHostName();
+            } catch (Exception e) {
+                host = "localhost";
+            }
+            NODE = Math.floorMod(host.hashCode(), SnowflakeIds.MAX_NODE + 1);
+            log.warn("{} is not set, using node {} derived from host name '{}'", NODE_SETTING, NODE, host);
+        }
+    }
+}
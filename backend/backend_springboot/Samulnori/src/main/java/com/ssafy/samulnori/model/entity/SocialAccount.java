@@ -5,7 +5,7 @@ import lombok.*;
 
 @Entity
 @Table(name = "social_accounts", uniqueConstraints = {
-        @UniqueConstraint(columnNames = {"provider", "providerId"})
+        @UniqueConstraint(columnNames = {"provider", "provider_id"})
 })
 @Getter
 @Setter
@@ -15,7 +15,7 @@ import lombok.*;
 public class SocialAccount {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
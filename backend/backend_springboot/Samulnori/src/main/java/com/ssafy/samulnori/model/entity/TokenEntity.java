@@ -15,7 +15,7 @@ import java.time.LocalDateTime;
 public class TokenEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @OneToOne // 한 유저당 한 개의 리프레시 토큰
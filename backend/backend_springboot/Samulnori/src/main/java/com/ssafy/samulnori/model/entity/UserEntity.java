@@ -6,7 +6,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_nickname", columnList = "nickname"),
+        @Index(name = "idx_users_login_name", columnList = "login_name")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -15,7 +18,7 @@ import java.time.LocalDateTime;
 public class UserEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(unique = true)
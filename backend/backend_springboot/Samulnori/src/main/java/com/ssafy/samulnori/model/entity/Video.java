@@ -12,13 +12,18 @@ import java.util.List;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "videos")
+@Table(name = "videos", indexes = {
+        @Index(name = "idx_videos_user_id", columnList = "user_id"),
+        @Index(name = "idx_videos_updated_at", columnList = "updated_at"),
+        @Index(name = "idx_videos_like_cnt", columnList = "like_cnt")
+})
 public class Video {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;  // 영상 고유 ID
 
-    @ManyToOne(fetch = FetchType.EAGER)
+    // 목록 조회는 리포지토리의 @EntityGraph 로 함께 가져옴 (EAGER 는 업로더마다 추가 쿼리 발생)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;  // 업로더 사용자
 
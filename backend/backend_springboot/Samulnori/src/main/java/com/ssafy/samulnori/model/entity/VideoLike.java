@@ -19,7 +19,7 @@ import java.time.LocalDateTime;
 public class VideoLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     // 사용자 (좋아요 누른 사람)
@@ -0,0 +1,22 @@
+package com.ssafy.samulnori.model.repository;
+
+import com.ssafy.samulnori.model.entity.CacheChange;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface CacheChangeRepository extends JpaRepository<CacheChange, Long> {
+
+    // 다른 인스턴스가 기록한 변경 (PK 범위 조회)
+    List<CacheChange> findByIdGreaterThanEqualAndOriginNotOrderByIdAsc(Long id, String origin);
+
+    // 보관 기간이 지난 변경 정리
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CacheChange c WHERE c.id < :id")
+    int deleteOlderThan(@Param("id") Long id);
+}
@@ -6,9 +6,12 @@ import com.ssafy.samulnori.model.entity.CommentLike;
 import com.ssafy.samulnori.model.entity.Video;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
 
@@ -18,6 +21,16 @@ public interface CommentLikeRepository extends JpaRepository<CommentLike, Long>
     // 해당 댓글의 좋아요 수 조회 (isLiked = true 인 경우만)
     long countByCommentAndIsLikedTrue(Comment comment);
 
+    // 목록에 포함된 댓글 중 사용자가 좋아요한 댓글 ID (댓글마다 조회하지 않도록 한 번에)
+    @Query("""
+    select cl.comment.id
+    from CommentLike cl
+    where cl.user.id = :userId
+      and cl.comment.id in :commentIds
+      and cl.isLiked = true
+    """)
+    Set<Long> findLikedCommentIds(@Param("userId") Long userId, @Param("commentIds") Collection<Long> commentIds);
+
     @Query("""
     select c.id
     from CommentLike cl
@@ -1,16 +1,40 @@
 package com.ssafy.samulnori.model.repository;
 
+import com.ssafy.samulnori.model.dto.CommentItem;
+import com.ssafy.samulnori.model.dto.CommentsVersion;
 import com.ssafy.samulnori.model.entity.Comment;
 import com.ssafy.samulnori.model.entity.Video;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    // 특정 영상에 달린 부모 댓글만 조회
+    // 특정 영상에 달린 부모 댓글만 조회 (작성자 카드는 UserCardCache 에서)
     List<Comment> findByVideoAndParentCommentIsNullOrderByCreatedAtDesc(Video video);
 
     // 특정 댓글의 대댓글 목록 조회
     List<Comment> findByParentCommentOrderByCreatedAtAsc(Comment parentComment);
 
+    // 정규화 목록용 projection (작성자는 user_id 만, 좋아요 여부는 서비스에서 덧씌움)
+    String COMMENT_ITEMS = "SELECT new com.ssafy.samulnori.model.dto.CommentItem(c.id, c.user.id, c.content, c.createdAt, "
+            + "c.parentComment.id, FALSE, c.likeCnt) FROM Comment c ";
+
+    @Query(COMMENT_ITEMS + "WHERE c.video.id = :videoId AND c.parentComment IS NULL ORDER BY c.createdAt DESC")
+    List<CommentItem> findParentItemsByVideoId(@Param("videoId") Long videoId);
+
+    @Query(COMMENT_ITEMS + "WHERE c.parentComment.id = :parentId ORDER BY c.createdAt ASC")
+    List<CommentItem> findReplyItemsByParentId(@Param("parentId") Long parentId);
+
+    // 댓글 목록 ETag 용 집계 (영상이 없으면 empty)
+    @Query("SELECT new com.ssafy.samulnori.model.dto.CommentsVersion(COUNT(c), MAX(c.updatedAt)) "
+            + "FROM Video v LEFT JOIN v.comments c WHERE v.id = :videoId GROUP BY v.id")
+    Optional<CommentsVersion> findVersionByVideoId(@Param("videoId") Long videoId);
+
+    // 부모 댓글 작성자 ID (댓글 목록 ETag 에 작성자 카드를 넣기 위함)
+    @Query("SELECT DISTINCT c.user.id FROM Comment c WHERE c.video.id = :videoId AND c.parentComment IS NULL")
+    List<Long> findParentAuthorIdsByVideoId(@Param("videoId") Long videoId);
+
 }
@@ -6,7 +6,6 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.ssafy.samulnori.model.entity.Follow;
-import com.ssafy.samulnori.model.entity.UserEntity;
 
 import java.util.List;
 
@@ -15,13 +14,16 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
 
     boolean existsByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
 
-    void deleteByFollowerIdAndFolloweeId(Long followerId, Long followeeId);
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.followee.id = :followeeId")
+    int deleteByFollowerIdAndFolloweeId(@Param("followerId") Long followerId, @Param("followeeId") Long followeeId);
 
-    @Query("SELECT f.follower FROM Follow f WHERE f.followee.id = :userId")
-    List<UserEntity> findFollowersByFolloweeId(@Param("userId") Long userId);
+    // 사용자 행 대신 ID 만 (follows 인덱스만으로 처리, 카드는 UserCardCache 에서)
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.followee.id = :userId")
+    List<Long> findFollowerIdsByFolloweeId(@Param("userId") Long userId);
 
-    @Query("SELECT f.followee FROM Follow f WHERE f.follower.id = :userId")
-    List<UserEntity> findFolloweesByFollowerId(@Param("userId") Long userId);
+    @Query("SELECT f.followee.id FROM Follow f WHERE f.follower.id = :userId")
+    List<Long> findFolloweeIdsByFollowerId(@Param("userId") Long userId);
 
     @Modifying
     @Query("UPDATE UserEntity u SET u.followerCnt = u.followerCnt + 1 WHERE u.id = :id")
@@ -2,6 +2,8 @@ package com.ssafy.samulnori.model.repository;
 
 import com.ssafy.samulnori.model.entity.SocialAccount;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -9,7 +11,8 @@ public interface SocialAccountRepository extends JpaRepository<SocialAccount, Lo
 
     Optional<SocialAccount> findByProviderAndProviderId(String provider, String providerId);
 
-    Optional<SocialAccount> findByUserId(Long userId);
+    @Query("SELECT sa FROM SocialAccount sa WHERE sa.user.id = :userId")
+    Optional<SocialAccount> findByUserId(@Param("userId") Long userId);
 
     void deleteById (Long userId);
 }
@@ -1,8 +1,12 @@
 package com.ssafy.samulnori.model.repository;
 
+import com.ssafy.samulnori.model.dto.user.UserCard;
 import com.ssafy.samulnori.model.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,6 +16,12 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     Optional<UserEntity> findByEmail(String email);
     Optional<UserEntity> findByNickname(String nickname);
     Optional<UserEntity> findByLoginName(String loginname);
-    List<UserEntity> findByNicknameContaining(String keyword);
+    @Query("SELECT u.id FROM UserEntity u WHERE u.nickname LIKE CONCAT('%', :keyword, '%')")
+    List<Long> findIdsByNicknameContaining(@Param("keyword") String keyword);
+
+    // UserCardCache 로드용 (카드에 필요한 컬럼만)
+    @Query("SELECT new com.ssafy.samulnori.model.dto.user.UserCard(u.id, u.nickname, u.profileImg, u.followerCnt) "
+            + "FROM UserEntity u WHERE u.id IN :ids")
+    List<UserCard> findCardsByIdIn(@Param("ids") Collection<? extends Long> ids);
     void deleteById(Long id);
 }
@@ -4,6 +4,8 @@ import com.ssafy.samulnori.model.entity.UserEntity;
 import com.ssafy.samulnori.model.entity.Video;
 import com.ssafy.samulnori.model.entity.VideoLike;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -16,6 +18,7 @@ public interface VideoLikeRepository extends JpaRepository<VideoLike, Long> {
     long countByVideoAndIsLikedTrue(Video video);
 
     // 좋아요 여부 확인용 메서드 추가
-    boolean existsByUserIdAndVideoIdAndIsLikedTrue(Long userId, Long videoId);
+    @Query("SELECT COUNT(vl) > 0 FROM VideoLike vl WHERE vl.user.id = :userId AND vl.video.id = :videoId AND vl.isLiked = true")
+    boolean existsByUserIdAndVideoIdAndIsLikedTrue(@Param("userId") Long userId, @Param("videoId") Long videoId);
 
 }
\ No newline at end of file
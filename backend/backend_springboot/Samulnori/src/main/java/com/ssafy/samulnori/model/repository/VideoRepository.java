@@ -1,7 +1,10 @@
 package com.ssafy.samulnori.model.repository;
 
+import com.ssafy.samulnori.model.dto.VideoItem;
 import com.ssafy.samulnori.model.entity.UserEntity;
 import com.ssafy.samulnori.model.entity.Video;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,12 +12,30 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
+
 public interface VideoRepository extends JpaRepository<Video, Long> {
+
+    // 정규화 목록용 projection (업로더는 user_id 만)
+    String VIDEO_ITEMS = "SELECT new com.ssafy.samulnori.model.dto.VideoItem(v.id, v.user.id, v.title, v.description, "
+            + "v.videoUrl, v.thumbnailUrl, v.runtime, v.createdAt, COALESCE(v.updatedAt, v.createdAt), "
+            + "v.viewCnt, v.likeCnt, v.commentCnt) FROM Video v ";
+
+    // 응답 DTO 변환용 단건 조회 (업로더 함께 조회)
+    @EntityGraph(attributePaths = "user")
+    Optional<Video> findWithUserById(Long id);
+
+    // 목록 조회는 업로더를 조인하지 않음 → 업로더 카드는 UserCardCache 에서 (video.getUser().getId() 는 프록시 초기화 없음)
+
     // 특정 사용자가 업로드한 영상 목록 조회 (UserEntity 기준)
     List<Video> findByUser(UserEntity user);
 
-    // 사용자 ID 기반 영상 목록 조회
-    List<Video> findByUserId(Long userId);
+    // 프로필 영상 목록: 최신 업로드순 키셋 페이지네이션 (ID 가 발급 시각 순, (user_id, id) 인덱스 범위 조회)
+    List<Video> findByUserIdOrderByIdDesc(Long userId, Limit limit);
+
+    List<Video> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long cursor, Limit limit);
+
+    long countByUserId(Long userId);
 
     // 제목 또는 설명에 키워드가 포함된 영상 검색 (대소문자 무시)
     List<Video> findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(String titleKeyword, String descriptionKeyword);
@@ -25,12 +46,22 @@ public interface VideoRepository extends JpaRepository<Video, Long> {
     // 좋아요 수 기준 인기 영상 목록 조회
     List<Video> findAllByOrderByLikeCntDesc();
 
+    @Query(VIDEO_ITEMS + "ORDER BY v.updatedAt DESC")
+    List<VideoItem> findItemsOrderByUpdatedAtDesc();
+
+    @Query(VIDEO_ITEMS + "ORDER BY v.likeCnt DESC")
+    List<VideoItem> findItemsOrderByLikeCntDesc();
+
+    @Query(VIDEO_ITEMS + "WHERE v.user.id IN :userIds")
+    List<VideoItem> findItemsByUserIdIn(@Param("userIds") List<Long> userIds);
+
     // 여러 아이디로 영상 조회
-    List<Video> findByUserIdIn(List<Long> userId);
+    @Query("SELECT v FROM Video v WHERE v.user.id IN :userIds")
+    List<Video> findByUserIdIn(@Param("userIds") List<Long> userIds);
 
-    // 조회수 증가
+    // 조회수 증가 (ViewCountBuffer 가 모은 만큼 한 번에 반영)
     @Modifying
     @Transactional
-    @Query("UPDATE Video v SET v.viewCnt = v.viewCnt + 1 WHERE v.id = :id")
-    void incrementViewCnt(@Param("id") Long id);
+    @Query("UPDATE Video v SET v.viewCnt = v.viewCnt + :delta WHERE v.id = :id")
+    void addViewCnt(@Param("id") Long id, @Param("delta") int delta);
 }
@@ -1,7 +1,11 @@
 package com.ssafy.samulnori.model.service;
 
+import com.ssafy.samulnori.model.dto.CommentItem;
 import com.ssafy.samulnori.model.dto.CommentRequestDto;
 import com.ssafy.samulnori.model.dto.CommentResponseDto;
+import com.ssafy.samulnori.model.dto.CommentsVersion;
+import com.ssafy.samulnori.model.dto.NormalizedPage;
+import com.ssafy.samulnori.model.dto.user.UserCard;
 import com.ssafy.samulnori.model.entity.Comment;
 import com.ssafy.samulnori.model.entity.UserEntity;
 import com.ssafy.samulnori.model.entity.Video;
@@ -9,13 +13,18 @@ import com.ssafy.samulnori.model.repository.CommentLikeRepository;
 import com.ssafy.samulnori.model.repository.CommentRepository;
 import com.ssafy.samulnori.model.repository.UserRepository;
 import com.ssafy.samulnori.model.repository.VideoRepository;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import com.ssafy.samulnori.util.ETags;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
-import com.ssafy.samulnori.model.entity.CommentLike;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +34,8 @@ public class CommentService {
     private final UserRepository userRepository;
     private final VideoRepository videoRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final MediaUrlResolver mediaUrlResolver;
+    private final UserCardCache userCardCache;
 
     /**
      * 댓글 등록 (댓글 or 대댓글)
@@ -49,7 +60,7 @@ public class CommentService {
             video.setCommentCnt(video.getCommentCnt() + 1);
         }
 
-        return CommentResponseDto.from(commentRepository.save(comment));
+        return CommentResponseDto.from(commentRepository.save(comment), UserCard.of(user), mediaUrlResolver);
     }
 
     /**
@@ -57,20 +68,40 @@ public class CommentService {
      */
     public List<CommentResponseDto> getParentCommentsByVideo(Long videoId, Long userId) {
         Video video = getVideoById(videoId);
-        return commentRepository.findByVideoAndParentCommentIsNullOrderByCreatedAtDesc(video).stream()
-                .map(comment -> {
-                    boolean isLiked = false;
-                    if (userId != null) {
-                        UserEntity user = getUserById(userId);
-                        isLiked = commentLikeRepository
-                                .findByUserAndComment(user, comment)
-                                .map(CommentLike::isLiked)
-                                .orElse(false);
-                    }
-                    int likeCount = (int) commentLikeRepository.countByCommentAndIsLikedTrue(comment);
-                    return CommentResponseDto.from(comment, isLiked, likeCount);
-                })
-                .collect(Collectors.toList());
+        return toResponses(commentRepository.findByVideoAndParentCommentIsNullOrderByCreatedAtDesc(video), userId);
+    }
+
+    /**
+     * 부모 댓글 정규화 목록 (?normalized=true)
+     */
+    public NormalizedPage<CommentItem> getParentCommentItemsByVideo(Long videoId, Long userId) {
+        if (!videoRepository.existsById(videoId)) {
+            throw new IllegalArgumentException("존재하지 않는 영상입니다.");
+        }
+        return toPage(commentRepository.findParentItemsByVideoId(videoId), userId);
+    }
+
+    /**
+     * 대댓글 정규화 목록 (?normalized=true)
+     */
+    public NormalizedPage<CommentItem> getReplyItemsByParent(Long parentId, Long userId) {
+        if (!commentRepository.existsById(parentId)) {
+            throw new IllegalArgumentException("존재하지 않는 댓글입니다.");
+        }
+        return toPage(commentRepository.findReplyItemsByParentId(parentId), userId);
+    }
+
+    /**
+     * 부모 댓글 목록의 ETag (집계 쿼리 + 작성자 ID 쿼리, 목록/좋아요 여부는 조회하지 않음)
+     * 좋아요 여부가 사용자별이라 사용자 ID, 인코딩별로 본문이 달라 format 포함
+     * 작성자 카드(닉네임/프로필 이미지 등)도 본문에 들어가므로 UserCardCache 의 카드를 ID 순으로 포함
+     */
+    public String getParentCommentsETag(Long videoId, Long userId, MediaType format) {
+        CommentsVersion version = commentRepository.findVersionByVideoId(videoId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영상입니다."));
+        Map<Long, UserCard> authors = new TreeMap<>(
+                userCardCache.getAll(commentRepository.findParentAuthorIdsByVideoId(videoId)));
+        return ETags.weak(format, videoId, version, authors.values(), userId, mediaUrlResolver.urlEpoch());
     }
 
     /**
@@ -78,20 +109,7 @@ public class CommentService {
      */
     public List<CommentResponseDto> getRepliesByParent(Long parentId, Long userId) {
         Comment parent = getCommentById(parentId);
-        return commentRepository.findByParentCommentOrderByCreatedAtAsc(parent).stream()
-                .map(reply -> {
-                    boolean isLiked = false;
-                    if (userId != null) {
-                        UserEntity user = getUserById(userId);
-                        isLiked = commentLikeRepository
-                                .findByUserAndComment(user, reply)
-                                .map(CommentLike::isLiked)
-                                .orElse(false);
-                    }
-                    int likeCount = (int) commentLikeRepository.countByCommentAndIsLikedTrue(reply);
-                    return CommentResponseDto.from(reply, isLiked, likeCount);
-                })
-                .collect(Collectors.toList());
+        return toResponses(commentRepository.findByParentCommentOrderByCreatedAtAsc(parent), userId);
     }
 
     /**
@@ -102,7 +120,7 @@ public class CommentService {
         Comment comment = getCommentById(commentId);
         validateOwner(comment, userId);
         comment.updateContent(content);
-        return CommentResponseDto.from(comment);
+        return CommentResponseDto.from(comment, userCardCache.getAll(List.of(userId)).get(userId), mediaUrlResolver);
     }
 
     /**
@@ -125,6 +143,39 @@ public class CommentService {
 
     // =================== Private Utilities ===================
 
+    /**
+     * 댓글 목록 → 응답 DTO
+     * 좋아요 수는 토글 시 갱신되는 like_cnt 컬럼을 쓰고, 좋아요 여부는 목록 전체를 한 번에 조회
+     * 작성자는 UserCardCache 에서 (댓글 목록 쿼리에 users 조인 없음)
+     */
+    private List<CommentResponseDto> toResponses(List<Comment> comments, Long userId) {
+        Map<Long, UserCard> authors = userCardCache.getAll(
+                comments.stream().map(c -> c.getUser().getId()).collect(Collectors.toSet()));
+        Set<Long> liked = Set.of();
+        if (userId != null && !comments.isEmpty()) {
+            List<Long> ids = comments.stream().map(Comment::getId).toList();
+            liked = commentLikeRepository.findLikedCommentIds(userId, ids);
+        }
+        Set<Long> likedIds = liked;
+        return comments.stream()
+                .map(c -> CommentResponseDto.from(c, authors.get(c.getUser().getId()),
+                        likedIds.contains(c.getId()), c.getLikeCnt(), mediaUrlResolver))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * projection 목록 → 정규화 응답 (좋아요 여부는 toResponses 와 같이 한 번에 조회)
+     */
+    private NormalizedPage<CommentItem> toPage(List<CommentItem> items, Long userId) {
+        if (userId != null && !items.isEmpty()) {
+            Set<Long> liked = commentLikeRepository.findLikedCommentIds(userId, items.stream().map(CommentItem::id).toList());
+            items = items.stream().map(c -> liked.contains(c.id()) ? c.withLiked(true) : c).toList();
+        }
+        Map<Long, UserCard> authors = userCardCache.getAll(
+                items.stream().map(CommentItem::userId).collect(Collectors.toSet()));
+        return NormalizedPage.of(items, authors, mediaUrlResolver);
+    }
+
     private UserEntity getUserById(Long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
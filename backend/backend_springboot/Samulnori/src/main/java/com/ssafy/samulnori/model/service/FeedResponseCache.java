@@ -0,0 +1,116 @@
+package com.ssafy.samulnori.model.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ssafy.samulnori.invalidation.EntityType;
+import com.ssafy.samulnori.invalidation.InvalidationBus;
+import com.ssafy.samulnori.util.ETags;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비로그인 피드(GET /videos, sortBy=latest|popular, normalized, JSON|CBOR) 응답 마이크로 캐시
+ * - 모든 방문자에게 같은 응답 → 정렬·형태·인코딩별로 직렬화 + gzip 까지 끝낸 바이트를 보관
+ * - stale-while-revalidate: fresh 구간이 지나면 기존 바이트를 그대로 주면서 백그라운드에서 갱신,
+ *   fresh + stale 이 지나면 만료되어 다음 요청이 직접 로드
+ * - 갱신은 단일 스레드(feed-refresher) 에서만, 같은 정렬의 갱신은 Caffeine 이 1 개로 합침
+ * - 영상 등록/수정/삭제(PROFILE) 시 즉시 갱신 요청 (갱신 중에도 이전 응답 제공)
+ *   좋아요 수·닉네임 변화는 fresh 구간(기본 1초) 안에 반영되므로 구독하지 않음
+ * - 응답에 presigned URL 이 들어가므로 fresh + stale 은 presign 재사용 구간보다 짧게
+ */
+@Component
+public class FeedResponseCache {
+
+    /** 정렬 + 응답 형태(기본 / 정규화) + 인코딩(application/json | application/cbor) */
+    public record FeedKey(String sort, boolean normalized, MediaType format) {
+    }
+
+    /** 키 하나의 응답: 원본 본문, gzip 본문, 두 표현이 공유하는 약한 ETag */
+    public record FeedResponse(byte[] body, byte[] gzip, String etag) {
+    }
+
+    private final VideoService videoService;
+    private final ObjectMapper objectMapper;
+    private final ObjectMapper cborMapper;
+    private final CacheControl cacheControl;
+    private final ExecutorService refresher;
+    private final LoadingCache<FeedKey, FeedResponse> responses;
+
+    public FeedResponseCache(VideoService videoService,
+                             ObjectMapper objectMapper,
+                             MappingJackson2CborHttpMessageConverter cborConverter,
+                             InvalidationBus invalidationBus,
+                             @Value("${feed.response-cache.fresh}") Duration fresh,
+                             @Value("${feed.response-cache.stale}") Duration stale) {
+        this.videoService = videoService;
+        this.objectMapper = objectMapper;
+        this.cborMapper = cborConverter.getObjectMapper();
+        this.cacheControl = CacheControl.maxAge(fresh).cachePublic().staleWhileRevalidate(stale);
+        this.refresher = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "feed-refresher");
+            t.setDaemon(true);
+            return t;
+        });
+        this.responses = Caffeine.newBuilder()
+                .refreshAfterWrite(fresh)
+                .expireAfterWrite(fresh.plus(stale))
+                .executor(refresher)
+                .recordStats()
+                .build(this::load);
+        invalidationBus.subscribe(EntityType.PROFILE, userId -> responses.asMap().keySet().forEach(responses::refresh));
+    }
+
+    /** sort: latest | popular, format: application/json | application/cbor */
+    public FeedResponse get(String sort, boolean normalized, MediaType format) {
+        return responses.get(new FeedKey(sort, normalized, format));
+    }
+
+    public CacheControl cacheControl() {
+        return cacheControl;
+    }
+
+    public LoadingCache<FeedKey, FeedResponse> getResponses() {
+        return responses;
+    }
+
+    @PreDestroy
+    void stop() {
+        refresher.shutdownNow();
+    }
+
+    private FeedResponse load(FeedKey key) throws IOException {
+        boolean popular = "popular".equals(key.sort());
+        Object body;
+        if (key.normalized()) {
+            body = popular ? videoService.getPopularVideoItems() : videoService.getLatestVideoItems();
+        } else {
+            body = popular ? videoService.getPopularVideos() : videoService.getLatestVideos();
+        }
+        ObjectMapper mapper = MediaType.APPLICATION_CBOR.equals(key.format()) ? cborMapper : objectMapper;
+        byte[] bytes = mapper.writeValueAsBytes(body);
+        return new FeedResponse(bytes, gzip(bytes), ETags.weak(bytes));
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
@@ -2,9 +2,13 @@ package com.ssafy.samulnori.model.service;
 
 import org.springframework.stereotype.Service;
 
+import com.ssafy.samulnori.invalidation.EntityType;
+import com.ssafy.samulnori.invalidation.InvalidationBus;
 import com.ssafy.samulnori.model.repository.*;
 import com.ssafy.samulnori.model.entity.*;
+import com.ssafy.samulnori.model.dto.user.UserCard;
 import com.ssafy.samulnori.model.dto.user.UserDTO;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
 
 import lombok.RequiredArgsConstructor;
 import jakarta.transaction.Transactional;
@@ -18,6 +22,9 @@ public class FollowService {
 
     private final FollowRepository followRepository;
     private final UserRepository userRepository;
+    private final MediaUrlResolver mediaUrlResolver;
+    private final UserCardCache userCardCache;
+    private final InvalidationBus invalidationBus;
 
     @Transactional
     public void follow(Long followerId, Long followeeId) {
@@ -34,34 +41,31 @@ public class FollowService {
         followRepository.save(follow);
 
         followRepository.incrementFollowerCnt(followeeId);
+        invalidationBus.publish(EntityType.USER, followeeId); // 팔로워 수
     }
 
     @Transactional
     public void unfollow(Long followerId, Long followeeId) {
-        followRepository.deleteByFollowerIdAndFolloweeId(followerId, followeeId);
-        followRepository.decrementFollowerCnt(followeeId);
+        // 실제로 삭제된 관계가 있을 때만 팔로워 수 감소
+        if (followRepository.deleteByFollowerIdAndFolloweeId(followerId, followeeId) > 0) {
+            followRepository.decrementFollowerCnt(followeeId);
+            invalidationBus.publish(EntityType.USER, followeeId);
+        }
     }
 
     public List<UserDTO> getFollowers(Long userId) {
-        List<UserEntity> followers = followRepository.findFollowersByFolloweeId(userId);
-        return followers.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return toCards(followRepository.findFollowerIdsByFolloweeId(userId));
     }
 
     public List<UserDTO> getFollowings(Long userId) {
-        List<UserEntity> followings = followRepository.findFolloweesByFollowerId(userId);
-        return followings.stream()
-            .map(this::convertToDTO)
-            .collect(Collectors.toList());
+        return toCards(followRepository.findFolloweeIdsByFollowerId(userId));
     }
 
-    private UserDTO convertToDTO(UserEntity user) {
-        return UserDTO.builder()
-                .nickname(user.getNickname())
-                .id(user.getId())
-                .profileImg(user.getProfileImg())
-                .followerCnt(user.getFollowerCnt())
-                .build();
+    // 관계 쿼리는 ID 만, 카드는 UserCardCache 에서 (순서는 관계 쿼리 결과 그대로)
+    private List<UserDTO> toCards(List<Long> userIds) {
+        Map<Long, UserCard> cards = userCardCache.getAll(userIds);
+        return userIds.stream()
+            .map(id -> UserDTO.from(cards.get(id), mediaUrlResolver))
+            .collect(Collectors.toList());
     }
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.ssafy.samulnori.model.service;
 
+import com.ssafy.samulnori.invalidation.EntityType;
+import com.ssafy.samulnori.invalidation.InvalidationBus;
+import com.ssafy.samulnori.jfr.VideoLikeToggleEvent;
+import com.ssafy.samulnori.model.dto.VideoLikeResponseDto;
 import com.ssafy.samulnori.model.entity.*;
 import com.ssafy.samulnori.model.repository.*;
 import jakarta.transaction.Transactional;
@@ -18,12 +22,17 @@ public class LikeService {
     private final CommentRepository commentRepository;
     private final VideoLikeRepository videoLikeRepository;
     private final CommentLikeRepository commentLikeRepository;
+    private final InvalidationBus invalidationBus;
 
     /**
      * 영상 좋아요 토글
+     * 갱신된 좋아요 수를 함께 반환 (컨트롤러에서 영상을 다시 조회하지 않도록)
      */
     @Transactional
-    public boolean toggleVideoLike(Long userId, Long videoId) {
+    public VideoLikeResponseDto toggleVideoLike(Long userId, Long videoId) {
+        VideoLikeToggleEvent event = new VideoLikeToggleEvent();
+        event.begin();
+
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
@@ -40,8 +49,22 @@ public class LikeService {
         long likeCount = videoLikeRepository.countByVideoAndIsLikedTrue(video);
         video.setLikeCnt((int) likeCount); // setter가 필요함
         videoRepository.save(video);
-
-        return like.isLiked(); // true면 좋아요 상태
+        invalidationBus.publish(EntityType.VIDEO, videoId); // 좋아요 수
+
+        // 커밋(flush)은 트랜잭션 종료 시점이라 이벤트 구간에 포함되지 않음
+        if (event.shouldCommit()) {
+            event.userId = userId;
+            event.videoId = videoId;
+            event.liked = like.isLiked();
+            event.likeCount = (int) likeCount;
+            event.commit();
+        }
+
+        return VideoLikeResponseDto.builder()
+                .videoId(videoId)
+                .isLiked(like.isLiked()) // true면 좋아요 상태
+                .likeCount((int) likeCount)
+                .build();
     }
 
     public long getLikeCount(Long videoId) {
@@ -0,0 +1,138 @@
+package com.ssafy.samulnori.model.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ssafy.samulnori.invalidation.EntityType;
+import com.ssafy.samulnori.invalidation.InvalidationBus;
+import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import com.ssafy.samulnori.model.dto.user.PageDTO;
+import com.ssafy.samulnori.model.dto.user.ProfileVideosDTO;
+import com.ssafy.samulnori.model.dto.user.UserCard;
+import com.ssafy.samulnori.model.dto.user.UserDTO;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import com.ssafy.samulnori.util.ETags;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 사용자 프로필 페이지 (헤더 + 영상 첫 페이지) 캐시
+ * - 인기 크리에이터 페이지가 가장 많이, 가장 비싸게 조회됨 → 사용자별 응답 전체를 공유 (사용자별 값 없음)
+ * - 같은 사용자에 대한 동시 미스는 로드 1 회 (LoadingCache 의 키 단위 계산)
+ * - 프로필 수정/팔로워 수 변화(USER), 영상 등록/수정/삭제(PROFILE) 시 무효화
+ *   좋아요·조회수·댓글 수와 presigned URL 갱신은 TTL 로 반영 → TTL 은 presign 재사용 구간보다 짧게
+ * - 다음 페이지(videosBefore)는 캐시하지 않음: 키셋 조회라 깊은 페이지도 비용이 같음
+ * - ETag 는 로드할 때 한 번 직렬화한 본문의 해시 → 캐시 적중 시 조건부 GET 에 쿼리 없음
+ */
+@Component
+public class ProfilePageCache {
+
+    /** 캐시 항목: 응답 DTO + 그 본문의 ETag */
+    public record ProfilePage(PageDTO page, String etag) {
+    }
+
+    private final UserRepository userRepository;
+    private final VideoRepository videoRepository;
+    private final UserCardCache userCardCache;
+    private final MediaUrlResolver mediaUrlResolver;
+    private final ObjectMapper objectMapper;
+    private final int pageSize;
+    private final LoadingCache<Long, ProfilePage> pages;
+
+    public ProfilePageCache(UserRepository userRepository,
+                            VideoRepository videoRepository,
+                            UserCardCache userCardCache,
+                            MediaUrlResolver mediaUrlResolver,
+                            ObjectMapper objectMapper,
+                            InvalidationBus invalidationBus,
+                            @Value("${profile.page-size}") int pageSize,
+                            @Value("${profile.cache.ttl}") Duration ttl,
+                            @Value("${profile.cache.max-size}") long maxSize) {
+        this.userRepository = userRepository;
+        this.videoRepository = videoRepository;
+        this.userCardCache = userCardCache;
+        this.mediaUrlResolver = mediaUrlResolver;
+        this.objectMapper = objectMapper;
+        this.pageSize = pageSize;
+        this.pages = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
+        invalidationBus.subscribe(EntityType.USER, pages::invalidate);
+        invalidationBus.subscribe(EntityType.PROFILE, pages::invalidate);
+    }
+
+    /** 없는 사용자면 null */
+    public PageDTO get(Long userId) {
+        ProfilePage cached = pages.get(userId);
+        return cached != null ? cached.page() : null;
+    }
+
+    /** 본문과 ETag 를 한 번에 (조건부 GET 에서 캐시를 한 번만 조회). 없는 사용자면 null */
+    public ProfilePage getPage(Long userId) {
+        return pages.get(userId);
+    }
+
+    /** cursor(영상 ID) 보다 오래된 영상 한 페이지. 없는 사용자면 null */
+    public ProfileVideosDTO videosBefore(Long userId, Long cursor) {
+        UserCard card = userCardCache.get(userId);
+        if (card == null) {
+            return null;
+        }
+        List<Video> rows = videoRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, cursor, Limit.of(pageSize + 1));
+        return ProfileVideosDTO.builder()
+                .videos(toResponses(rows, card))
+                .nextCursor(nextCursor(rows))
+                .build();
+    }
+
+    public LoadingCache<Long, ProfilePage> getPages() {
+        return pages;
+    }
+
+    private ProfilePage load(Long userId) {
+        return userRepository.findById(userId).map(user -> {
+            // 방금 로드한 사용자 행으로 카드를 만듦 (업로더가 모두 이 사용자)
+            UserCard card = UserCard.of(user);
+            List<Video> rows = videoRepository.findByUserIdOrderByIdDesc(userId, Limit.of(pageSize + 1));
+            long videoCount = rows.size() > pageSize ? videoRepository.countByUserId(userId) : rows.size();
+            PageDTO page = PageDTO.builder()
+                    .userDTO(UserDTO.from(card, mediaUrlResolver))
+                    .videos(toResponses(rows, card))
+                    .nextCursor(nextCursor(rows))
+                    .videoCount(videoCount)
+                    .introduce(user.getIntroduce())
+                    .build();
+            return new ProfilePage(page, etagOf(page));
+        }).orElse(null);
+    }
+
+    private String etagOf(PageDTO page) {
+        try {
+            return ETags.weak(objectMapper.writeValueAsBytes(page));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 한 건 더 읽어서 다음 페이지 유무 판단
+    private List<VideoResponseDto> toResponses(List<Video> rows, UserCard card) {
+        return rows.stream()
+                .limit(pageSize)
+                .map(video -> VideoResponseDto.from(video, card, false, mediaUrlResolver))
+                .toList();
+    }
+
+    private Long nextCursor(List<Video> rows) {
+        return rows.size() > pageSize ? rows.get(pageSize - 1).getId() : null;
+    }
+}
@@ -1,48 +1,59 @@
 package com.ssafy.samulnori.model.service;
 
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.model.CannedAccessControlList;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.ssafy.samulnori.concurrent.Bulkheads;
+import com.ssafy.samulnori.jfr.S3PutEvent;
+import com.ssafy.samulnori.storage.BlobStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Service
 @RequiredArgsConstructor
 public class S3Uploader {
 
-    private final AmazonS3 amazonS3;
-
-    @Value("${S3_BUCKET_NAME}")
-    private String bucket;
+    // 실제 저장소 (storage.type 에 따라 S3 / 로컬 디스크)
+    private final BlobStore blobStore;
+    // 저장소 호출은 전용 벌크헤드에서 실행 (동시성/대기열/제한 시간)
+    private final Bulkheads bulkheads;
 
     /**
      * 공통 업로드 로직: key를 명시적으로 받아 업로드
      */
     private String put(String key, MultipartFile file, String cacheControl, boolean publicRead) throws IOException {
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(file.getSize());
+        return bulkheads.s3().call(() -> write(key, file, cacheControl, publicRead));
+    }
+
+    /**
+     * 비동기 업로드: 요청 스레드는 바로 반환되고 s3 벌크헤드에서 실행
+     */
+    private CompletableFuture<String> putAsync(String key, MultipartFile file, String cacheControl, boolean publicRead) {
+        return bulkheads.s3().submit(() -> write(key, file, cacheControl, publicRead));
+    }
+
+    private String write(String key, MultipartFile file, String cacheControl, boolean publicRead) throws IOException {
         // 파일에 contentType이 비어있으면 기본값 보정
-        metadata.setContentType(file.getContentType() != null ? file.getContentType() : "application/octet-stream");
-        if (cacheControl != null) {
-            metadata.setCacheControl(cacheControl);
-        }
+        String contentType = file.getContentType() != null ? file.getContentType() : "application/octet-stream";
 
+        S3PutEvent event = new S3PutEvent();
+        event.begin();
         try (InputStream in = file.getInputStream()) {
-            PutObjectRequest req = new PutObjectRequest(bucket, key, in, metadata);
-            if (publicRead) {
-                req = req.withCannedAcl(CannedAccessControlList.PublicRead);
+            String url = blobStore.put(key, in, file.getSize(), contentType, cacheControl, publicRead);
+            event.success = true;
+            return url;
+        } finally {
+            // 녹화 중이 아니면 shouldCommit() 이 false → 필드 채우기/기록 생략
+            if (event.shouldCommit()) {
+                event.key = key;
+                event.bytes = file.getSize();
+                event.contentType = contentType;
+                event.commit();
             }
-            amazonS3.putObject(req);
         }
-        // 버킷 정책/CloudFront에 따라 아래 반환 URL은 바꿔도 됨
-        return amazonS3.getUrl(bucket, key).toString();
     }
 
     /**
@@ -83,6 +94,25 @@ public class S3Uploader {
         return uploadFileToS3(file, "thumbnails");
     }
 
+    // ===== 비동기 업로드 (업로드 API 에서 사용) =====
+
+    private CompletableFuture<String> uploadFileToS3Async(MultipartFile file, String dirName) {
+        String key = randomKey(dirName, file.getOriginalFilename(), "bin");
+        return putAsync(key, file, "public, max-age=31536000, immutable", false);
+    }
+
+    public CompletableFuture<String> uploadProfileImageAsync(MultipartFile file) {
+        return uploadFileToS3Async(file, "profile-images");
+    }
+
+    public CompletableFuture<String> uploadVideoAsync(MultipartFile file) {
+        return uploadFileToS3Async(file, "videos");
+    }
+
+    public CompletableFuture<String> uploadThumbnailAsync(MultipartFile file) {
+        return uploadFileToS3Async(file, "thumbnails");
+    }
+
     // ===== 권장: videoId별 버저닝 키 사용 (새 키 생성) =====
 
     /** 권장: 영상 업로드(동일 videoId 디렉토리 아래 새 키) */
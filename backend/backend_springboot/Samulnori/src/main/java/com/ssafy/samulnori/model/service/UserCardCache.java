@@ -0,0 +1,77 @@
+package com.ssafy.samulnori.model.service;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.ssafy.samulnori.invalidation.EntityType;
+import com.ssafy.samulnori.invalidation.InvalidationBus;
+import com.ssafy.samulnori.model.dto.user.UserCard;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 ID → UserCard 캐시
+ * - 목록 화면은 업로더/작성자/팔로우 대상의 카드만 필요 → 목록 쿼리에서 users 조인을 빼고 여기서 채움
+ * - 없는 카드만 모아 IN 쿼리 1 회로 로드 (4 개 컬럼 프로젝션, 엔티티 로드 없음)
+ * - 닉네임/프로필 이미지 수정, 팔로우/언팔로우, 탈퇴 시 InvalidationBus 로 무효화 (모든 인스턴스)
+ */
+@Component
+public class UserCardCache {
+
+    private final LoadingCache<Long, UserCard> cards;
+
+    public UserCardCache(UserRepository userRepository,
+                         InvalidationBus invalidationBus,
+                         @Value("${user.card-cache.ttl}") Duration ttl,
+                         @Value("${user.card-cache.max-size}") long maxSize) {
+        this.cards = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(new CacheLoader<>() {
+                    @Override
+                    public UserCard load(Long id) {
+                        return loadAll(Set.of(id)).get(id);
+                    }
+
+                    @Override
+                    public Map<Long, UserCard> loadAll(Set<? extends Long> ids) {
+                        return userRepository.findCardsByIdIn(ids).stream()
+                                .collect(Collectors.toMap(UserCard::id, Function.identity()));
+                    }
+                });
+        invalidationBus.subscribe(EntityType.USER, cards::invalidate);
+    }
+
+    /** 없는 사용자면 null */
+    public UserCard get(Long userId) {
+        return cards.get(userId);
+    }
+
+    /** 요청한 ID 모두에 대해 카드 반환 (없는 사용자는 UserCard.missing) */
+    public Map<Long, UserCard> getAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, UserCard> found = cards.getAll(userIds);
+        if (found.size() == userIds.size()) {
+            return found;
+        }
+        Map<Long, UserCard> all = new HashMap<>(found);
+        userIds.forEach(id -> all.computeIfAbsent(id, UserCard::missing));
+        return all;
+    }
+
+    public LoadingCache<Long, UserCard> getCards() {
+        return cards;
+    }
+}
@@ -1,17 +1,25 @@
 package com.ssafy.samulnori.model.service;
 
+import com.ssafy.samulnori.invalidation.EntityType;
+import com.ssafy.samulnori.invalidation.InvalidationBus;
 import com.ssafy.samulnori.model.dto.*;
 import com.ssafy.samulnori.model.dto.auth.LoginRequest;
 import com.ssafy.samulnori.model.dto.auth.SignupRequest;
 import com.ssafy.samulnori.model.dto.user.MyInfoRequestDTO;
 import com.ssafy.samulnori.model.dto.user.MyInfoResponseDTO;
 import com.ssafy.samulnori.model.dto.user.PageDTO;
+import com.ssafy.samulnori.model.dto.user.ProfileVideosDTO;
+import com.ssafy.samulnori.model.dto.user.UserCard;
 import com.ssafy.samulnori.model.dto.user.UserDTO;
 import com.ssafy.samulnori.model.entity.*;
 import com.ssafy.samulnori.model.repository.*;
+import com.ssafy.samulnori.model.service.ProfilePageCache.ProfilePage;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import com.ssafy.samulnori.util.ETags;
 import com.ssafy.samulnori.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import jakarta.transaction.Transactional;
@@ -32,8 +40,11 @@ public class UserService {
     private final FollowRepository followRepository;
     private final PasswordEncoder passwordEncoder;
     private final SocialAccountRepository socialAccountRepository;
-    private final VideoRepository videoRepository;
     private final S3Uploader s3Uploader;
+    private final MediaUrlResolver mediaUrlResolver;
+    private final UserCardCache userCardCache;
+    private final InvalidationBus invalidationBus;
+    private final ProfilePageCache profilePageCache;
 
 
     // 회원가입
@@ -69,13 +80,12 @@ public class UserService {
     @Transactional
     public void deleteUser(Long userId) {
         // 1. 본인이 팔로우한 모든 유저 조회
-        List<UserEntity> followees = followRepository.findFolloweesByFollowerId(userId);
-
-        for (UserEntity follow : followees) {
-            Long followeeId = follow.getId(); // 혹은 follow.getFolloweeId()
+        List<Long> followeeIds = followRepository.findFolloweeIdsByFollowerId(userId);
 
+        for (Long followeeId : followeeIds) {
             // 2. 팔로워 수 1 감소
             followRepository.decrementFollowerCnt(followeeId); // 아래 커스텀 쿼리 참고
+            invalidationBus.publish(EntityType.USER, followeeId);
         }
 
         // 3. 소셜 계정 삭제 (있는 경우만)
@@ -84,6 +94,7 @@ public class UserService {
         }
         // 4. 사용자 삭제
         userRepository.deleteById(userId);
+        invalidationBus.publish(EntityType.USER, userId);
     }
 
     // 로그인
@@ -125,7 +136,7 @@ public class UserService {
                 .email(user.getEmail())
                 .nickname(user.getNickname())
                 .provider(provider)
-                .profileImg(user.getProfileImg())  // URL 반환
+                .profileImg(mediaUrlResolver.resolve(user.getProfileImg()))  // URL 반환
                 .introduce(user.getIntroduce())
                 .createdAt(user.getCreatedAt())
                 .build();
@@ -164,44 +175,54 @@ public class UserService {
         }
 
         userRepository.save(user);
+        invalidationBus.publish(EntityType.USER, id);
     }
 
     // 유저 검색
     public List<UserDTO> searchUsers(String keyword) {
 
-        List<UserEntity> users= userRepository.findByNicknameContaining(keyword);
-        
-        return users.stream()
-            .map(user -> UserDTO.builder()
-                .nickname(user.getNickname())
-                .id(user.getId())
-                .profileImg(user.getProfileImg())
-                .followerCnt(user.getFollowerCnt())
-                .build())
+        List<Long> ids = userRepository.findIdsByNicknameContaining(keyword);
+        Map<Long, UserCard> cards = userCardCache.getAll(ids);
+
+        return ids.stream()
+            .map(id -> UserDTO.from(cards.get(id), mediaUrlResolver))
             .collect(Collectors.toList());
     }
 
-    // 유저 개인 페이지 조회
-    @Transactional
+    // 유저 개인 페이지 조회 (헤더 + 영상 첫 페이지, ProfilePageCache)
     public PageDTO getUserProfile(Long userId) {
-        UserEntity user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저 없음"));
-
-        List<Video> videos = videoRepository.findByUserId(userId);
-        List<VideoResponseDto> videoResponse = videos.stream()
-                .map(VideoResponseDto::from)
-                .collect(Collectors.toList());
+        PageDTO page = profilePageCache.get(userId);
+        if (page == null) {
+            throw new IllegalArgumentException("유저 없음");
+        }
+        return page;
+    }
 
-        UserDTO userDTO = UserDTO.builder()
-                .nickname(user.getNickname())
-                .id(user.getId())
-                .profileImg(user.getProfileImg())
-                .followerCnt(user.getFollowerCnt())
-                .build();
+    // 유저 개인 페이지 본문 + 본문 해시 (캐시 적중 시 쿼리 없음, 조건부 GET 도 캐시 조회 1 회)
+    public ProfilePage getUserProfilePage(Long userId) {
+        ProfilePage profile = profilePageCache.getPage(userId);
+        if (profile == null) {
+            throw new IllegalArgumentException("유저 없음");
+        }
+        return profile;
+    }
 
-        String intro = user.getIntroduce();
+    // 유저 개인 페이지 ETag: 캐시의 본문 해시 + 응답 인코딩
+    public String getUserProfileETag(ProfilePage profile, MediaType format) {
+        return ETags.weak(format, profile.etag());
+    }
 
-        return PageDTO.builder().userDTO(userDTO).videos(videoResponse).introduce(intro).build();
+    // 유저 개인 페이지의 다음 영상 페이지 (cursor 없으면 첫 페이지)
+    public ProfileVideosDTO getUserProfileVideos(Long userId, Long cursor) {
+        if (cursor == null) {
+            PageDTO page = getUserProfile(userId);
+            return ProfileVideosDTO.builder().videos(page.getVideos()).nextCursor(page.getNextCursor()).build();
+        }
+        ProfileVideosDTO videos = profilePageCache.videosBefore(userId, cursor);
+        if (videos == null) {
+            throw new IllegalArgumentException("유저 없음");
+        }
+        return videos;
     }
 }
 
@@ -0,0 +1,107 @@
+package com.ssafy.samulnori.model.service;
+
+import com.github.benmanes.caffeine.cache.AsyncLoadingCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import com.ssafy.samulnori.invalidation.EntityType;
+import com.ssafy.samulnori.invalidation.InvalidationBus;
+import com.ssafy.samulnori.model.dto.user.UserCard;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 영상 상세의 사용자 무관한 부분(영상 + 업로더 카드 + 표시용 URL)을 짧게 캐시
+ * - 같은 영상에 대한 동시 미스는 진행 중인 로드 하나를 공유 (single-flight)
+ *   → 공유 링크로 요청이 몰려도 DB 조회는 TTL 당 영상 1 회
+ * - 로드는 전용 로더 스레드(video-detail-loader)에서 실행하고 요청 스레드는 그 결과를 기다림
+ *   호출 스레드에서 로드하면 Caffeine 이 맵의 compute 안에서 실행 → DB 트랜잭션 동안 같은 해시 버킷의
+ *   다른 영상 요청까지 막히고, 가상 스레드 모드에서는 캐리어 스레드가 고정됨
+ * - 캐시 값의 likedByCurrentUser 는 항상 false → 사용자별 값은 VideoService 에서 덧씌움
+ * - 수정/삭제/좋아요는 InvalidationBus 로 무효화 (모든 인스턴스), 댓글 수·조회수 변화는 TTL 만큼 늦게 보임
+ */
+@Component
+public class VideoDetailCache {
+
+    private final VideoRepository videoRepository;
+    private final UserCardCache userCardCache;
+    private final MediaUrlResolver mediaUrlResolver;
+    private final TransactionTemplate readOnly;
+    private final ExecutorService loader;
+    private final AsyncLoadingCache<Long, VideoResponseDto> details;
+
+    public VideoDetailCache(VideoRepository videoRepository,
+                            UserCardCache userCardCache,
+                            MediaUrlResolver mediaUrlResolver,
+                            PlatformTransactionManager transactionManager,
+                            InvalidationBus invalidationBus,
+                            @Value("${video.detail-cache.ttl}") Duration ttl,
+                            @Value("${video.detail-cache.max-size}") long maxSize,
+                            @Value("${video.detail-cache.loader-threads}") int loaderThreads) {
+        this.videoRepository = videoRepository;
+        this.userCardCache = userCardCache;
+        this.mediaUrlResolver = mediaUrlResolver;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        AtomicInteger seq = new AtomicInteger();
+        this.loader = Executors.newFixedThreadPool(loaderThreads, r -> {
+            Thread t = new Thread(r, "video-detail-loader-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        this.details = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .executor(loader)
+                .recordStats()
+                .buildAsync(this::load);
+        invalidationBus.subscribe(EntityType.VIDEO, this::invalidate);
+    }
+
+    /** 없는 영상이면 null (부재는 캐시하지 않음) */
+    public VideoResponseDto get(Long videoId) {
+        try {
+            return details.get(videoId).join();
+        } catch (CompletionException e) {
+            // 로드한 요청과 같은 예외를 기다리던 요청에도 전달
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public void invalidate(Long videoId) {
+        details.synchronous().invalidate(videoId);
+    }
+
+    public AsyncLoadingCache<Long, VideoResponseDto> getDetails() {
+        return details;
+    }
+
+    @PreDestroy
+    void stop() {
+        loader.shutdownNow();
+    }
+
+    private VideoResponseDto load(Long videoId) {
+        return readOnly.execute(status -> videoRepository.findById(videoId)
+                .map(video -> VideoResponseDto.from(video, cardOf(video.getUser().getId()), false, mediaUrlResolver))
+                .orElse(null));
+    }
+
+    private UserCard cardOf(Long userId) {
+        UserCard card = userCardCache.get(userId);
+        return card != null ? card : UserCard.missing(userId);
+    }
+}
@@ -1,22 +1,41 @@
 package com.ssafy.samulnori.model.service;
 
+import com.ssafy.samulnori.concurrent.Bulkheads;
+import com.ssafy.samulnori.invalidation.EntityType;
+import com.ssafy.samulnori.invalidation.InvalidationBus;
+import com.ssafy.samulnori.jfr.FeedAssemblyEvent;
+import com.ssafy.samulnori.jfr.RuntimeProbeEvent;
+import com.ssafy.samulnori.model.dto.NormalizedPage;
+import com.ssafy.samulnori.model.dto.VideoItem;
 import com.ssafy.samulnori.model.dto.VideoRequestDto;
 import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import com.ssafy.samulnori.model.dto.user.UserCard;
+import com.ssafy.samulnori.model.dto.user.UserDTO;
 import com.ssafy.samulnori.model.entity.UserEntity;
 import com.ssafy.samulnori.model.entity.Video;
 import com.ssafy.samulnori.model.repository.FollowRepository;
 import com.ssafy.samulnori.model.repository.UserRepository;
 import com.ssafy.samulnori.model.repository.VideoLikeRepository;
 import com.ssafy.samulnori.model.repository.VideoRepository;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import com.ssafy.samulnori.util.ETags;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.*;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -28,17 +47,26 @@ public class VideoService {
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
     private final S3Uploader s3Uploader;
+    private final MediaUrlResolver mediaUrlResolver;
+    private final Bulkheads bulkheads;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final VideoDetailCache videoDetailCache;
+    private final ViewCountBuffer viewCountBuffer;
+    private final UserCardCache userCardCache;
+    private final InvalidationBus invalidationBus;
 
     /**
      * 영상 등록 (한 번에 저장)
-     * - S3 업로드로 URL 확보
+     * - S3 업로드와 runtime 계산(ffprobe)을 각자의 벌크헤드에서 병렬 실행
      * - runtime이 비어있으면 서버에서 계산(ffprobe), 실패 시 0
-     * - 모두 채워진 상태로 1회 save → NOT NULL 위반 방지
+     * - 모두 채워진 상태로 db 벌크헤드에서 1회 save → NOT NULL 위반 방지
+     * - 요청 스레드는 바로 반환됨 (컨트롤러가 CompletableFuture 로 응답)
      */
-    @Transactional
-    public VideoResponseDto uploadVideo(VideoRequestDto requestDto) throws IOException {
-        UserEntity user = userRepository.findById(requestDto.getUserId())
-                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 사용자입니다."));
+    public CompletableFuture<VideoResponseDto> uploadVideo(VideoRequestDto requestDto) {
+        if (!userRepository.existsById(requestDto.getUserId())) {
+            throw new IllegalArgumentException("유효하지 않은 사용자입니다.");
+        }
 
         // 필수 파일 검증 (컨트롤러에서도 1차 검증하지만 방어적으로 한 번 더)
         MultipartFile videoFile = requestDto.getVideoFile();
@@ -47,32 +75,39 @@ public class VideoService {
         }
 
         // 1) S3 업로드
-        String videoUrl = s3Uploader.uploadVideo(videoFile);
+        CompletableFuture<String> videoUrl = s3Uploader.uploadVideoAsync(videoFile);
 
-        String thumbnailUrl = null;
+        CompletableFuture<String> thumbnailUrl = CompletableFuture.completedFuture(null);
         MultipartFile thumbnailFile = requestDto.getThumbnailFile();
         if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            thumbnailUrl = s3Uploader.uploadThumbnail(thumbnailFile);
+            thumbnailUrl = s3Uploader.uploadThumbnailAsync(thumbnailFile);
         }
 
         // 2) runtime 보정
-        Integer runtime = requestDto.getRuntime();
-        if (runtime == null) {
-            runtime = computeRuntimeSeconds(videoFile); // 실패 시 0 리턴
-        }
+        CompletableFuture<Integer> runtime = requestDto.getRuntime() != null
+                ? CompletableFuture.completedFuture(requestDto.getRuntime())
+                : computeRuntimeSecondsAsync(videoFile); // 실패 시 0
 
         // 3) DB 저장(값이 모두 채워진 상태)
-        Video video = Video.builder()
-                .user(user)
-                .title(requestDto.getTitle())
-                .description(requestDto.getDescription())
-                .videoUrl(videoUrl)           // NOT NULL 충족
-                .thumbnailUrl(thumbnailUrl)
-                .runtime(runtime)             // NOT NULL 충족
-                .build();
-
-        Video saved = videoRepository.save(video);
-        return VideoResponseDto.from(saved);
+        CompletableFuture<String> thumbnail = thumbnailUrl;
+        return CompletableFuture.allOf(videoUrl, thumbnail, runtime)
+                .thenCompose(done -> bulkheads.db().submit(() -> transactionTemplate.execute(status -> {
+                    UserEntity user = userRepository.findById(requestDto.getUserId())
+                            .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 사용자입니다."));
+
+                    Video video = Video.builder()
+                            .user(user)
+                            .title(requestDto.getTitle())
+                            .description(requestDto.getDescription())
+                            .videoUrl(videoUrl.join())    // NOT NULL 충족
+                            .thumbnailUrl(thumbnail.join())
+                            .runtime(runtime.join())      // NOT NULL 충족
+                            .build();
+
+                    Video saved = videoRepository.save(video);
+                    invalidationBus.publish(EntityType.PROFILE, user.getId());
+                    return VideoResponseDto.from(saved, mediaUrlResolver);
+                })));
     }
 
     /**
@@ -80,9 +115,9 @@ public class VideoService {
      * - 소유자 확인
      * - 새 파일 있으면 업로드 → URL 교체(새 UUID 키 → 브라우저 캐시 이슈 자연 해소)
      * - runtime은 새 영상이 올라왔는데 값이 없으면 다시 계산. 아니면 기존 유지
+     * - 업로드/계산은 비동기, 마지막 반영만 db 벌크헤드의 트랜잭션에서 수행
      */
-    @Transactional
-    public VideoResponseDto updateVideo(Long videoId, VideoRequestDto requestDto, Long userId) throws IOException {
+    public CompletableFuture<VideoResponseDto> updateVideo(Long videoId, VideoRequestDto requestDto, Long userId) {
         Video video = videoRepository.findById(videoId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영상입니다."));
 
@@ -90,47 +125,46 @@ public class VideoService {
             throw new SecurityException("본인의 영상만 수정할 수 있습니다.");
         }
 
-        String videoUrl = video.getVideoUrl();
-        String thumbnailUrl = video.getThumbnailUrl();
-        Integer runtime = video.getRuntime();
-
         MultipartFile videoFile = requestDto.getVideoFile();
         MultipartFile thumbnailFile = requestDto.getThumbnailFile();
 
-        boolean videoReplaced = false;
+        // null 이면 기존 값 유지
+        CompletableFuture<String> newVideoUrl = CompletableFuture.completedFuture(null);
+        CompletableFuture<String> newThumbnailUrl = CompletableFuture.completedFuture(null);
+        CompletableFuture<Integer> newRuntime = CompletableFuture.completedFuture(requestDto.getRuntime());
 
         if (videoFile != null && !videoFile.isEmpty()) {
-            videoUrl = s3Uploader.uploadVideo(videoFile);
-            videoReplaced = true;
+            newVideoUrl = s3Uploader.uploadVideoAsync(videoFile);
+            // 새 영상이 업로드되었고, runtime이 안 왔으면 서버에서 계산
+            if (requestDto.getRuntime() == null) {
+                newRuntime = computeRuntimeSecondsAsync(videoFile);
+            }
         }
         if (thumbnailFile != null && !thumbnailFile.isEmpty()) {
-            thumbnailUrl = s3Uploader.uploadThumbnail(thumbnailFile);
+            newThumbnailUrl = s3Uploader.uploadThumbnailAsync(thumbnailFile);
         }
 
-        // 새 영상이 업로드되었고, runtime이 안 왔으면 서버에서 계산
-        if (videoReplaced) {
-            if (requestDto.getRuntime() != null) {
-                runtime = requestDto.getRuntime();
-            } else {
-                runtime = computeRuntimeSeconds(videoFile);
-            }
-        } else {
-            // 영상 파일은 그대로인데 runtime만 들어왔다면 업데이트
-            if (requestDto.getRuntime() != null) {
-                runtime = requestDto.getRuntime();
-            }
-        }
-
-        video.update(
-                requestDto.getTitle(),
-                requestDto.getDescription(),
-                videoUrl,
-                thumbnailUrl,
-                runtime
-        );
-
-        Video updated = videoRepository.save(video);
-        return VideoResponseDto.from(updated);
+        CompletableFuture<String> videoUrl = newVideoUrl;
+        CompletableFuture<String> thumbnailUrl = newThumbnailUrl;
+        CompletableFuture<Integer> runtime = newRuntime;
+        return CompletableFuture.allOf(videoUrl, thumbnailUrl, runtime)
+                .thenCompose(done -> bulkheads.db().submit(() -> transactionTemplate.execute(status -> {
+                    Video target = videoRepository.findWithUserById(videoId)
+                            .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영상입니다."));
+
+                    target.update(
+                            requestDto.getTitle(),
+                            requestDto.getDescription(),
+                            videoUrl.join() != null ? videoUrl.join() : target.getVideoUrl(),
+                            thumbnailUrl.join() != null ? thumbnailUrl.join() : target.getThumbnailUrl(),
+                            runtime.join() != null ? runtime.join() : target.getRuntime()
+                    );
+
+                    Video updated = videoRepository.save(target);
+                    invalidationBus.publish(EntityType.VIDEO, videoId);
+                    invalidationBus.publish(EntityType.PROFILE, target.getUser().getId());
+                    return VideoResponseDto.from(updated, mediaUrlResolver);
+                })));
     }
 
     @Transactional
@@ -143,87 +177,165 @@ public class VideoService {
         }
 
         videoRepository.delete(video);
+        invalidationBus.publish(EntityType.VIDEO, videoId);
+        invalidationBus.publish(EntityType.PROFILE, userId);
         // (선택) S3 객체 삭제는 정책에 따라 구현
     }
 
-    // 단일 영상 상세 조회
-    @Transactional
+    /**
+     * 단일 영상 상세 조회
+     * - 공통 부분은 VideoDetailCache 에서 (동시 미스는 로드 1 회로 합쳐짐)
+     * - 좋아요 여부만 사용자별로 조회해 덧씌움 (비로그인 사용자는 캐시된 인스턴스 그대로)
+     * - 조회수는 ViewCountBuffer 에 모아 주기적으로 반영 → 응답의 viewCnt 는 flush 주기 + TTL 만큼 늦을 수 있음
+     */
     public VideoResponseDto getVideo(Long videoId, Long userId) {
-        // 1. 조회수 증가
-        videoRepository.incrementViewCnt(videoId);
-
-        // 2. 영상 다시 조회
-        Video video = videoRepository.findById(videoId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 영상입니다."));
+        VideoResponseDto video = videoDetailCache.get(videoId);
+        if (video == null) {
+            throw new IllegalArgumentException("존재하지 않는 영상입니다.");
+        }
+        viewCountBuffer.increment(videoId);
 
-        // 3. 좋아요 여부 확인 (비로그인 사용자는 false)
-        boolean likedByCurrentUser = false;
-        if (userId != null) {
-            likedByCurrentUser = videoLikeRepository.existsByUserIdAndVideoIdAndIsLikedTrue(userId, videoId);
+        if (userId != null && videoLikeRepository.existsByUserIdAndVideoIdAndIsLikedTrue(userId, videoId)) {
+            return video.withLikedByCurrentUser(true);
         }
+        return video;
+    }
 
-        return VideoResponseDto.from(video, likedByCurrentUser);
+    /**
+     * 상세 응답의 ETag: getVideo 가 돌려준 본문(캐시 항목 + 좋아요 여부)에서 만듦 → 태그와 본문이 항상 같은 버전
+     * 추가 쿼리 없음 (좋아요 여부는 getVideo 에서 이미 조회), JSON/CBOR 는 서로 다른 표현이라 인코딩 포함
+     */
+    public String getVideoETag(VideoResponseDto video, MediaType format) {
+        UserDTO uploader = video.getUploader();
+        return ETags.weak(format, video.getId(), uploader.getId(), uploader.getNickname(), uploader.getProfileImg(),
+                video.getTitle(), video.getDescription(), video.getVideoUrl(), video.getThumbnailUrl(),
+                video.getRuntime(), video.getUpdatedAt(), video.getViewCnt(), video.getLikeCnt(),
+                video.getCommentCnt(), video.isLikedByCurrentUser(), mediaUrlResolver.urlEpoch());
     }
 
     // 최신순 영상 리스트 (updatedAt 기준 권장)
     public List<VideoResponseDto> getLatestVideos() {
-        return videoRepository.findAllByOrderByUpdatedAtDesc()
-                .stream()
-                .map(VideoResponseDto::from)
-                .collect(Collectors.toList());
+        return assemble("latest", 0, videoRepository::findAllByOrderByUpdatedAtDesc);
     }
 
     // 인기순 영상 리스트
     public List<VideoResponseDto> getPopularVideos() {
-        return videoRepository.findAllByOrderByLikeCntDesc()
-                .stream()
-                .map(VideoResponseDto::from)
-                .collect(Collectors.toList());
+        return assemble("popular", 0, videoRepository::findAllByOrderByLikeCntDesc);
     }
 
-    // 팔로우한 사람들 영상 리스트
-    public List<VideoResponseDto> getFollowingVideos(Long userId) {
-        List<Long> followeeIds = followRepository.findFolloweesByFollowerId(userId)
-                .stream()
-                .map(UserEntity::getId)
-                .toList();
+    // 정규화 목록 (?normalized=true): 항목은 projection 에서 바로, 업로더는 users 에 한 번씩
+    public NormalizedPage<VideoItem> getLatestVideoItems() {
+        return assembleItems("latest", 0, videoRepository::findItemsOrderByUpdatedAtDesc);
+    }
 
-        List<Video> videos = videoRepository.findByUserIdIn(followeeIds);
+    public NormalizedPage<VideoItem> getPopularVideoItems() {
+        return assembleItems("popular", 0, videoRepository::findItemsOrderByLikeCntDesc);
+    }
 
-        return videos.stream()
-                .map(VideoResponseDto::from)
-                .collect(Collectors.toList());
+    public NormalizedPage<VideoItem> getFollowingVideoItems(Long userId) {
+        return assembleItems("following", userId, () ->
+                videoRepository.findItemsByUserIdIn(followRepository.findFolloweeIdsByFollowerId(userId)));
+    }
+
+    // 팔로우한 사람들 영상 리스트
+    public List<VideoResponseDto> getFollowingVideos(Long userId) {
+        return assemble("following", userId, () -> {
+            List<Long> followeeIds = followRepository.findFolloweeIdsByFollowerId(userId);
+            return videoRepository.findByUserIdIn(followeeIds);
+        });
     }
 
     // 특정 사용자의 영상 목록
     public List<VideoResponseDto> getVideosByUser(Long userId) {
         UserEntity user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        return videoRepository.findByUser(user)
-                .stream()
-                .map(VideoResponseDto::from)
-                .collect(Collectors.toList());
+        return assemble("user", userId, () -> videoRepository.findByUser(user));
     }
 
     // 키워드 검색
     public List<VideoResponseDto> searchVideos(String keyword) {
-        return videoRepository
-                .findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(keyword, keyword)
-                .stream()
-                .map(VideoResponseDto::from)
+        return assemble("search", 0,
+                () -> videoRepository.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase(keyword, keyword));
+    }
+
+    /**
+     * 목록 조회 + DTO 변환. 녹화 중이면 FeedAssemblyEvent 로 구간 기록
+     * 업로더 카드는 목록 전체에 대해 한 번에 (캐시에 없는 것만 IN 쿼리 1 회)
+     */
+    private List<VideoResponseDto> assemble(String feed, long userId, Supplier<List<Video>> query) {
+        FeedAssemblyEvent event = new FeedAssemblyEvent();
+        event.begin();
+        List<Video> videos = query.get();
+        Map<Long, UserCard> uploaders = userCardCache.getAll(
+                videos.stream().map(v -> v.getUser().getId()).collect(Collectors.toSet()));
+        List<VideoResponseDto> result = videos.stream()
+                .map(v -> VideoResponseDto.from(v, uploaders.get(v.getUser().getId()), false, mediaUrlResolver))
                 .collect(Collectors.toList());
+        if (event.shouldCommit()) {
+            event.feed = feed;
+            event.userId = userId;
+            event.videos = result.size();
+            event.commit();
+        }
+        return result;
+    }
+
+    /** assemble 의 정규화 버전 (엔티티 대신 VideoItem projection) */
+    private NormalizedPage<VideoItem> assembleItems(String feed, long userId, Supplier<List<VideoItem>> query) {
+        FeedAssemblyEvent event = new FeedAssemblyEvent();
+        event.begin();
+        List<VideoItem> items = query.get().stream()
+                .map(item -> item.withResolvedUrls(mediaUrlResolver))
+                .toList();
+        Map<Long, UserCard> uploaders = userCardCache.getAll(
+                items.stream().map(VideoItem::uploaderId).collect(Collectors.toSet()));
+        NormalizedPage<VideoItem> page = NormalizedPage.of(items, uploaders, mediaUrlResolver);
+        if (event.shouldCommit()) {
+            event.feed = feed;
+            event.userId = userId;
+            event.videos = items.size();
+            event.commit();
+        }
+        return page;
     }
 
     // ================== runtime 계산 (ffprobe) ==================
+
+    /**
+     * ffprobe 벌크헤드에서 실행. 포화/타임아웃 포함 실패 시 0
+     * 실행 시간(임시 파일 복사 포함)은 ffprobe.duration{outcome} 으로 기록
+     */
+    private CompletableFuture<Integer> computeRuntimeSecondsAsync(MultipartFile videoFile) {
+        return bulkheads.ffprobe().submit(() -> {
+                    RuntimeProbeEvent event = new RuntimeProbeEvent();
+                    event.begin();
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    Integer seconds = computeRuntimeSeconds(videoFile);
+                    sample.stop(meterRegistry.timer("ffprobe.duration", "outcome", seconds > 0 ? "success" : "failure"));
+                    if (event.shouldCommit()) {
+                        event.fileName = videoFile.getOriginalFilename();
+                        event.bytes = videoFile.getSize();
+                        event.runtimeSeconds = seconds;
+                        event.commit();
+                    }
+                    return seconds;
+                })
+                .exceptionally(e -> 0);
+    }
+
     /**
      * ffprobe로 동영상 길이(초)를 구함. 실패하면 0 반환.
      * EC2에 ffprobe가 설치되어 있어야 함: `sudo apt-get install -y ffmpeg`
      */
     private Integer computeRuntimeSeconds(MultipartFile videoFile) {
         File temp = null;
+        Process p = null;
         try {
             temp = Files.createTempFile("upload_", "_" + videoFile.getOriginalFilename()).toFile();
-            videoFile.transferTo(temp);
+            // transferTo 는 업로드 임시 파일을 옮겨버릴 수 있어 병렬 S3 업로드와 충돌 → 복사
+            try (InputStream in = videoFile.getInputStream()) {
+                Files.copy(in, temp.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
 
             // ffprobe -v error -show_entries format=duration -of default=noprint_wrappers=1:nokey=1 <file>
             ProcessBuilder pb = new ProcessBuilder(
@@ -233,7 +345,7 @@ public class VideoService {
                     temp.getAbsolutePath()
             );
             pb.redirectErrorStream(true);
-            Process p = pb.start();
+            p = pb.start();
 
             try (BufferedReader br = new BufferedReader(new InputStreamReader(p.getInputStream()))) {
                 String line = br.readLine();
@@ -249,6 +361,10 @@ public class VideoService {
             // 계산 실패 → 0으로 폴백
             return 0;
         } finally {
+            // 벌크헤드 타임아웃으로 인터럽트된 경우 프로세스가 남지 않도록 정리
+            if (p != null && p.isAlive()) {
+                p.destroyForcibly();
+            }
             if (temp != null && temp.exists()) {
                 temp.delete();
             }
@@ -0,0 +1,119 @@
+package com.ssafy.samulnori.model.service;
+
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 증가를 메모리에 모았다가 주기적으로 반영
+ * - 요청마다 UPDATE 하던 것을 flush 주기당 영상 1 건으로 줄임 (같은 행 잠금 경합도 사라짐)
+ * - 영상 ID 순으로 갱신 → 여러 인스턴스가 동시에 flush 해도 잠금 순서가 같음
+ * - 반영 실패 시 다음 주기에 다시 시도, 종료 시 남은 값 반영
+ * 프로세스가 비정상 종료되면 마지막 주기분은 유실됨 (조회수는 근사치로 충분)
+ */
+@Slf4j
+@Component
+public class ViewCountBuffer {
+
+    private final VideoRepository videoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration flushInterval;
+
+    // 영상 ID → 아직 반영하지 않은 조회수 (merge/remove 가 키 단위로 원자적이라 유실 없음)
+    private final Map<Long, Integer> pending = new ConcurrentHashMap<>();
+    private final AtomicLong flushed = new AtomicLong();
+    // 주기 flush 와 종료/테스트의 직접 flush 가 겹치지 않게 (synchronized 는 가상 스레드 모드에서 캐리어 고정)
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private ScheduledExecutorService flusher;
+
+    public ViewCountBuffer(VideoRepository videoRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${video.views.flush-interval}") Duration flushInterval) {
+        this.videoRepository = videoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushInterval = flushInterval;
+    }
+
+    @PostConstruct
+    void start() {
+        flusher = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread t = new Thread(r, "view-count-flusher");
+            t.setDaemon(true);
+            return t;
+        });
+        long millis = flushInterval.toMillis();
+        flusher.scheduleWithFixedDelay(this::flush, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(10, TimeUnit.SECONDS);
+        flush();
+    }
+
+    public void increment(Long videoId) {
+        pending.merge(videoId, 1, Integer::sum);
+    }
+
+    /** 모인 조회수를 DB 에 반영하고 반영한 영상 수를 반환 */
+    public int flush() {
+        flushLock.lock();
+        try {
+            return flushPending();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private int flushPending() {
+        List<Long> ids = new ArrayList<>(pending.keySet());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        ids.sort(null);
+        Map<Long, Integer> batch = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Integer delta = pending.remove(id);
+            if (delta != null) {
+                batch.put(id, delta);
+            }
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    batch.forEach(videoRepository::addViewCnt));
+            flushed.addAndGet(batch.size());
+            return batch.size();
+        } catch (RuntimeException e) {
+            // 되돌려 놓고 다음 주기에 재시도
+            batch.forEach((id, delta) -> pending.merge(id, delta, Integer::sum));
+            log.warn("조회수 반영 실패 ({}개 영상), 다음 주기에 재시도", batch.size(), e);
+            return 0;
+        }
+    }
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getFlushedCount() {
+        return flushed.get();
+    }
+}
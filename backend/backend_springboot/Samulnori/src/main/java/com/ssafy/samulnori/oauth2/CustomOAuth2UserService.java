@@ -6,6 +6,7 @@ import com.ssafy.samulnori.model.entity.UserEntity;
 import com.ssafy.samulnori.model.repository.SocialAccountRepository;
 import com.ssafy.samulnori.model.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.OAuth2AuthenticationException;
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
 
 import java.util.Optional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -46,7 +48,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         UserEntity user;
 
         if (optionalSocialAccount.isEmpty()) {
-            System.out.println(provider + " " + providerId + " 신규 사용자");
+            log.info("{} {} 신규 사용자", provider, providerId);
             // 신규 사용자
             user = UserEntity.builder()
                     .email(oAuth2Response.getEmail())
@@ -68,7 +70,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         } else {
             // 기존 사용자 - 정보 업데이트 없이 그대로 사용
             user = optionalSocialAccount.get().getUser();
-            System.out.println("기존 사용자 로그인 시도");
+            log.debug("기존 사용자 로그인 시도: {} {}", provider, providerId);
         }
 
         // DTO 생성 및 반환
@@ -0,0 +1,75 @@
+package com.ssafy.samulnori.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
+/**
+ * 미디어 파일 저장소 추상화
+ * - S3Uploader는 이 인터페이스만 사용 (S3 / 로컬 디스크 교체 가능)
+ * - 구현체 선택: storage.type=s3 | local
+ */
+public interface BlobStore {
+
+    /**
+     * key 위치에 스트림을 저장하고 클라이언트가 접근할 URL을 반환
+     */
+    String put(String key, InputStream in, long contentLength, String contentType,
+               String cacheControl, boolean publicRead) throws IOException;
+
+    /**
+     * 저장된 객체를 읽기 스트림으로 연다 (없으면 IOException)
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * 저장된 객체의 [start, end] 구간(end 포함)을 읽기 스트림으로 연다
+     * - 기본 구현은 앞부분을 건너뛰므로, 원본이 구간 조회를 지원하면 재정의
+     * - 호출자는 end - start + 1 바이트만 읽음
+     */
+    default InputStream open(String key, long start, long end) throws IOException {
+        InputStream in = open(key);
+        try {
+            in.skipNBytes(start);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+        return in;
+    }
+
+    /**
+     * 저장된 객체 삭제 (없으면 무시)
+     */
+    void delete(String key) throws IOException;
+
+    /**
+     * key에 해당하는 공개 URL
+     */
+    String urlOf(String key);
+
+    /**
+     * expiresAt 까지만 유효한 읽기 URL (비공개 버킷용)
+     * - 서명이 필요 없는 저장소는 urlOf 와 같은 값을 반환
+     */
+    String presignedUrlOf(String key, Instant expiresAt);
+
+    /**
+     * 이 저장소가 발급한 URL → key (외부 URL 이면 null)
+     */
+    String keyOf(String url);
+
+    /**
+     * 아직 최종 저장소로 전송되지 않은 객체인지 (임시 URL 로만 접근 가능 → 서명 캐시 금지)
+     */
+    default boolean isPending(String key) {
+        return false;
+    }
+
+    /**
+     * 저장된 객체의 바이트 수 (본문을 받지 않고 확인, 모르면 -1)
+     */
+    default long sizeOf(String key) throws IOException {
+        return -1;
+    }
+}
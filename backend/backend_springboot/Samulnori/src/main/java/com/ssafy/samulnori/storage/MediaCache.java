@@ -0,0 +1,239 @@
+package com.ssafy.samulnori.storage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * 자주 조회되는 미디어 객체(영상/썸네일)의 로컬 디스크 read-through 캐시
+ * - 용량 기준 LRU (media.cache.max-bytes)
+ * - 캐시된 파일은 메모리 매핑하여 읽음 (페이지 캐시 공유, 힙 복사 없음)
+ * - 같은 key 에 대한 동시 miss 는 한 번의 원본 다운로드로 합침
+ * - 캐시 전체 용량보다 큰 객체는 캐시하지 않음 (get 이 null → 호출자가 원본에서 바로 스트리밍)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "media.cache.enabled", havingValue = "true")
+public class MediaCache {
+
+    private static final long CHUNK = 8L * 1024 * 1024;
+
+    private final BlobStore blobStore;
+
+    @Value("${media.cache.dir}")
+    private String dir;
+
+    @Value("${media.cache.max-bytes}")
+    private long maxBytes;
+
+    private Path root;
+
+    // access-order LinkedHashMap → 가장 오래 안 쓰인 항목이 맨 앞
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+    private final ReentrantLock lock = new ReentrantLock();
+    private long usedBytes;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public record Entry(String key, Path file, MappedByteBuffer buffer, long size) {
+    }
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Path.of(dir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        // 인덱스는 메모리에만 있으므로 재시작 시 이전 파일은 정리
+        try (Stream<Path> files = Files.list(root)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    /**
+     * 캐시에서 객체를 찾고, 없으면 원본 저장소에서 받아와 캐시에 적재
+     * 캐시 용량(max-bytes)보다 커서 캐시하지 않는 객체면 null
+     */
+    public Entry get(String key) throws IOException {
+        lock.lock();
+        try {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                hits.increment();
+                return cached;
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            // 이미 다른 요청이 같은 객체를 받는 중 → 결과 공유
+            return await(existing);
+        }
+
+        try {
+            Entry loaded = cachedOrLoad(key);
+            mine.complete(loaded);
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    // 첫 확인과 putIfAbsent 사이에 다른 요청의 로드가 끝났을 수 있음 → 다시 받지 않도록 한 번 더 확인
+    private Entry cachedOrLoad(String key) throws IOException {
+        lock.lock();
+        try {
+            Entry cached = entries.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (blobStore.sizeOf(key) > maxBytes) {
+            return null;
+        }
+        return load(key);
+    }
+
+    private Entry load(String key) throws IOException {
+        Path file = root.resolve(UUID.randomUUID() + ".bin");
+        try (InputStream in = blobStore.open(key);
+             ReadableByteChannel src = Channels.newChannel(in);
+             FileChannel dst = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                     StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long position = 0;
+            long n;
+            while ((n = dst.transferFrom(src, position, CHUNK)) > 0) {
+                position += n;
+            }
+            MappedByteBuffer buffer = dst.map(FileChannel.MapMode.READ_ONLY, 0, position);
+            Entry entry = new Entry(key, file, buffer, position);
+            admit(entry);
+            return entry;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    private void admit(Entry entry) throws IOException {
+        if (entry.size() > maxBytes) {
+            // 크기를 미리 알 수 없던 저장소의 큰 객체: 이번 응답만 매핑으로 서빙하고 캐시에는 넣지 않음
+            Files.deleteIfExists(entry.file());
+            return;
+        }
+        lock.lock();
+        try {
+            Entry previous = entries.put(entry.key(), entry);
+            if (previous != null) {
+                usedBytes -= previous.size();
+                Files.deleteIfExists(previous.file());
+            }
+            usedBytes += entry.size();
+
+            // 용량 초과분을 LRU 순서로 제거 (방금 넣은 항목은 maxBytes 이하라 혼자 남으면 항상 들어감)
+            Iterator<Map.Entry<String, Entry>> it = entries.entrySet().iterator();
+            while (usedBytes > maxBytes && it.hasNext()) {
+                Entry victim = it.next().getValue();
+                if (victim == entry) {
+                    continue;
+                }
+                it.remove();
+                usedBytes -= victim.size();
+                evictions.increment();
+                // 매핑은 GC 전까지 유효하므로 전송 중인 요청이 있어도 안전하게 삭제 가능
+                Files.deleteIfExists(victim.file());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Entry await(CompletableFuture<Entry> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    // =================== Metrics ===================
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public double getHitRatio() {
+        long h = hits.sum();
+        long total = h + misses.sum();
+        return total == 0 ? 0.0 : (double) h / total;
+    }
+
+    public long getUsedBytes() {
+        lock.lock();
+        try {
+            return usedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getEntryCount() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
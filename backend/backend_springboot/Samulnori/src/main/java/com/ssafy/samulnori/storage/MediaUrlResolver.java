@@ -0,0 +1,93 @@
+package com.ssafy.samulnori.storage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * DB에 저장된 영구 URL → 응답용 URL 변환
+ * - 비공개 버킷: 짧은 수명의 presigned URL 발급
+ * - 서명은 key 별로 수명의 대부분(refresh-ratio) 동안 재사용 → 목록 응답마다 HMAC 재계산하지 않음
+ * - 이 저장소가 발급하지 않은 URL(소셜 프로필 이미지 등)은 그대로 반환
+ * - 스풀에 남아 있는(S3 전송 전) 객체는 스풀 서빙 URL 로 응답
+ * - 미디어 캐시를 켜면 미디어 프록시 URL({base-url}/{key}) 로 응답 → 디스크 캐시를 거쳐 서빙
+ */
+@Component
+public class MediaUrlResolver {
+
+    private final BlobStore blobStore;
+    private final boolean presignEnabled;
+    private final boolean proxyEnabled;
+    private final String proxyBaseUrl;
+    private final Duration ttl;
+    private final long urlEpochMillis;
+    private final Cache<String, String> signatures;
+
+    public MediaUrlResolver(BlobStore blobStore, boolean presignEnabled, Duration ttl,
+                            double refreshRatio, long cacheSize) {
+        this(blobStore, presignEnabled, ttl, refreshRatio, cacheSize, false, null);
+    }
+
+    @Autowired
+    public MediaUrlResolver(BlobStore blobStore,
+                            @Value("${storage.presign.enabled}") boolean presignEnabled,
+                            @Value("${storage.presign.ttl}") Duration ttl,
+                            @Value("${storage.presign.refresh-ratio}") double refreshRatio,
+                            @Value("${storage.presign.cache-size}") long cacheSize,
+                            @Value("${media.cache.enabled}") boolean proxyEnabled,
+                            @Value("${media.cache.base-url}") String proxyBaseUrl) {
+        this.blobStore = blobStore;
+        this.presignEnabled = presignEnabled;
+        this.proxyEnabled = proxyEnabled;
+        this.proxyBaseUrl = proxyBaseUrl == null ? null
+                : proxyBaseUrl.endsWith("/") ? proxyBaseUrl.substring(0, proxyBaseUrl.length() - 1) : proxyBaseUrl;
+        this.ttl = ttl;
+        this.urlEpochMillis = Math.max(1, (long) (ttl.toMillis() * (1 - refreshRatio)));
+        // 캐시 만료 시점에도 발급된 URL 은 (1 - refreshRatio) * ttl 만큼 남은 수명을 보장
+        this.signatures = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofMillis((long) (ttl.toMillis() * refreshRatio)))
+                .recordStats()
+                .build();
+    }
+
+    public String resolve(String storedUrl) {
+        if (storedUrl == null) {
+            return null;
+        }
+        String key = blobStore.keyOf(storedUrl);
+        if (key == null) {
+            return storedUrl;
+        }
+        if (blobStore.isPending(key)) {
+            // 스풀에서 아직 전송 전 → 임시 URL (전송 완료 후 바로 S3 URL 로 바뀌도록 캐시하지 않음)
+            return blobStore.presignedUrlOf(key, Instant.now().plus(ttl));
+        }
+        if (proxyEnabled) {
+            // 프록시 URL 은 만료가 없으므로 서명하지 않음
+            return proxyBaseUrl + "/" + key;
+        }
+        if (!presignEnabled) {
+            return storedUrl;
+        }
+        return signatures.get(key, k -> blobStore.presignedUrlOf(k, Instant.now().plus(ttl)));
+    }
+
+    /**
+     * 응답에 담긴 URL 세대 (ETag 에 포함)
+     * 발급된 URL 은 최소 (1 - refreshRatio) * ttl 동안 유효 → 그 길이마다 세대를 바꿔
+     * 304 로 재사용되는 본문의 URL 이 만료되지 않도록 함. presign 을 쓰지 않거나 프록시 URL 이면 항상 0
+     */
+    public long urlEpoch() {
+        return presignEnabled && !proxyEnabled ? System.currentTimeMillis() / urlEpochMillis : 0;
+    }
+
+    public Cache<String, String> getSignatureCache() {
+        return signatures;
+    }
+}
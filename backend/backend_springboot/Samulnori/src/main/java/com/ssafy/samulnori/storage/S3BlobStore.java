@@ -0,0 +1,138 @@
+package com.ssafy.samulnori.storage;
+
+import com.amazonaws.HttpMethod;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3URI;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.util.SdkHttpUtils;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Date;
+import java.util.function.Supplier;
+
+/**
+ * AWS S3 저장소 (기본값)
+ * - 요청별 지연/결과는 storage.s3.requests{operation, outcome}, 업로드 바이트는 storage.s3.put.bytes 로 기록
+ */
+@Component
+@ConditionalOnProperty(name = "storage.type", havingValue = "s3", matchIfMissing = true)
+public class S3BlobStore implements BlobStore {
+
+    private final AmazonS3 amazonS3;
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary putBytes;
+
+    @Value("${S3_BUCKET_NAME}")
+    private String bucket;
+
+    public S3BlobStore(AmazonS3 amazonS3, MeterRegistry meterRegistry) {
+        this.amazonS3 = amazonS3;
+        this.meterRegistry = meterRegistry;
+        // 처리량 = rate(storage_s3_put_bytes_sum)
+        this.putBytes = DistributionSummary.builder("storage.s3.put.bytes")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String put(String key, InputStream in, long contentLength, String contentType,
+                      String cacheControl, boolean publicRead) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(contentLength);
+        metadata.setContentType(contentType);
+        if (cacheControl != null) {
+            metadata.setCacheControl(cacheControl);
+        }
+
+        PutObjectRequest req = new PutObjectRequest(bucket, key, in, metadata);
+        if (publicRead) {
+            req.setCannedAcl(CannedAccessControlList.PublicRead);
+        }
+        timed("put", () -> amazonS3.putObject(req));
+        putBytes.record(contentLength);
+
+        // 버킷 정책/CloudFront에 따라 아래 반환 URL은 바꿔도 됨
+        return urlOf(key);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        // 본문 스트림 소비 시간은 포함되지 않음 (첫 바이트까지의 지연)
+        return timed("get", () -> amazonS3.getObject(bucket, key).getObjectContent());
+    }
+
+    @Override
+    public InputStream open(String key, long start, long end) {
+        // 구간 GET (Range 헤더) → 필요한 바이트만 전송받음
+        GetObjectRequest req = new GetObjectRequest(bucket, key).withRange(start, end);
+        return timed("get", () -> amazonS3.getObject(req).getObjectContent());
+    }
+
+    @Override
+    public long sizeOf(String key) {
+        // HEAD 요청 (본문 없음)
+        return timed("head", () -> amazonS3.getObjectMetadata(bucket, key).getContentLength());
+    }
+
+    @Override
+    public void delete(String key) {
+        timed("delete", () -> {
+            amazonS3.deleteObject(bucket, key);
+            return null;
+        });
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    @Override
+    public String presignedUrlOf(String key, Instant expiresAt) {
+        // 로컬 HMAC 계산만 하고 네트워크 호출은 없음
+        return amazonS3.generatePresignedUrl(bucket, key, Date.from(expiresAt), HttpMethod.GET).toString();
+    }
+
+    @Override
+    public String keyOf(String url) {
+        try {
+            AmazonS3URI uri = new AmazonS3URI(url);
+            return bucket.equals(uri.getBucket()) ? uri.getKey() : null;
+        } catch (IllegalArgumentException e) {
+            // 엔드포인트를 직접 지정한 S3 호환 저장소면 그 URL 규칙으로 판별
+            String prefix = urlOf("");
+            if (url != null && url.startsWith(prefix) && url.length() > prefix.length()) {
+                return SdkHttpUtils.urlDecode(url.substring(prefix.length()));
+            }
+            // S3 URL 이 아님 (소셜 프로필 이미지 등)
+            return null;
+        }
+    }
+
+    private <T> T timed(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return call.get();
+        } catch (RuntimeException e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("storage.s3.requests")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,417 @@
+package com.ssafy.samulnori.storage;
+
+import com.ssafy.samulnori.util.CircuitBreaker;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 스풀 + 비동기 S3 전송 (storage.spool.enabled=true 일 때 S3 앞단에 배치)
+ * - put: 스풀 디렉토리에 fsync 까지 마치면 바로 응답 (S3 지연과 무관)
+ * - 전송기: 동시 전송 수 제한, 지수 백오프 재시도, 서킷 브레이커
+ * - DB 에는 처음부터 최종 S3 URL 을 저장하고, 전송 전까지는 MediaUrlResolver 가 스풀 URL 로 바꿔서 응답
+ * - 스풀 파일은 재시작 후에도 다시 전송 대기열에 올라감 (쓰다 만 *.tmp 는 시작 시 삭제)
+ * - 전송 중에 삭제된 key 는 전송이 끝난 뒤 S3 에서 다시 삭제 (put 이 삭제를 덮어쓰지 않도록)
+ * - 스풀 URL 은 업로드를 받은 노드에서만 서빙되므로 다중 노드에서는 공유 볼륨 또는 sticky 라우팅 필요
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnExpression("'${storage.type:s3}' == 's3' and ${storage.spool.enabled:false}")
+public class SpoolingBlobStore implements BlobStore {
+
+    private static final long CHUNK = 8L * 1024 * 1024;
+    private static final String META_SUFFIX = ".spool-meta";
+    private static final String TMP_SUFFIX = ".tmp";
+
+    private final S3BlobStore delegate;
+    private final Path root;
+    private final String baseUrl;
+    private final long maxBytes;
+    private final int concurrency;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final CircuitBreaker circuitBreaker;
+
+    // 아직 S3 로 전송되지 않은 key → 스풀 파일
+    private final Map<String, Path> pending = new ConcurrentHashMap<>();
+    // 전송 중인 key → 진행 중인 전송 수, 전송 중에 삭제된 key (전송이 끝난 뒤 S3 에서 한 번 더 삭제)
+    private final Map<String, Integer> uploading = new ConcurrentHashMap<>();
+    private final Set<String> deletedWhileUploading = ConcurrentHashMap.newKeySet();
+    private final AtomicLong spooledBytes = new AtomicLong();
+    private final AtomicLong drained = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicInteger inProgress = new AtomicInteger();
+
+    private ScheduledExecutorService drainer;
+
+    public SpoolingBlobStore(S3BlobStore delegate,
+                             @Value("${storage.spool.dir}") String dir,
+                             @Value("${storage.spool.base-url}") String baseUrl,
+                             @Value("${storage.spool.max-bytes}") long maxBytes,
+                             @Value("${storage.spool.drain-concurrency}") int concurrency,
+                             @Value("${storage.spool.initial-backoff}") Duration initialBackoff,
+                             @Value("${storage.spool.max-backoff}") Duration maxBackoff,
+                             @Value("${storage.spool.breaker.failure-threshold}") int failureThreshold,
+                             @Value("${storage.spool.breaker.open-duration}") Duration openDuration) {
+        this.delegate = delegate;
+        this.root = Path.of(dir).toAbsolutePath().normalize();
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.maxBytes = maxBytes;
+        this.concurrency = concurrency;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.circuitBreaker = new CircuitBreaker("s3-spool", failureThreshold, openDuration);
+    }
+
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(root);
+        AtomicInteger seq = new AtomicInteger();
+        drainer = new ScheduledThreadPoolExecutor(concurrency, r -> {
+            Thread t = new Thread(r, "spool-drainer-" + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+
+        // 쓰다 만 임시 파일(비정상 종료) 정리 → 완성된 파일은 항상 move 로만 생기므로 버려도 됨
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path tmp : (Iterable<Path>) files.filter(p -> p.toString().endsWith(TMP_SUFFIX))::iterator) {
+                Files.deleteIfExists(tmp);
+            }
+        }
+
+        // 재시작 전에 남아 있던 스풀 파일 복구
+        try (Stream<Path> files = Files.walk(root)) {
+            files.filter(p -> p.toString().endsWith(META_SUFFIX)).forEach(meta -> {
+                try {
+                    Properties props = readMeta(meta);
+                    String key = props.getProperty("key");
+                    Path data = resolve(key);
+                    if (Files.isRegularFile(data)) {
+                        pending.put(key, data);
+                        spooledBytes.addAndGet(Files.size(data));
+                        schedule(key, 0, Duration.ZERO);
+                    } else {
+                        Files.deleteIfExists(meta);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    log.warn("스풀 메타 파일 복구 실패: {}", meta, e);
+                }
+            });
+        }
+        if (!pending.isEmpty()) {
+            log.info("스풀 복구: {}건 재전송 대기", pending.size());
+        }
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        drainer.shutdown();
+        drainer.awaitTermination(10, TimeUnit.SECONDS);
+    }
+
+    @Override
+    public String put(String key, InputStream in, long contentLength, String contentType,
+                      String cacheControl, boolean publicRead) throws IOException {
+        // 스풀이 가득 찼으면 직접 전송 (디스크 고갈 방지)
+        if (spooledBytes.get() + contentLength > maxBytes) {
+            return delegate.put(key, in, contentLength, contentType, cacheControl, publicRead);
+        }
+
+        Path data = resolve(key);
+        Files.createDirectories(data.getParent());
+
+        // 메타 → 데이터 순서로 기록 (복구 시 데이터 없는 메타는 버림)
+        Properties props = new Properties();
+        props.setProperty("key", key);
+        props.setProperty("contentType", contentType);
+        if (cacheControl != null) {
+            props.setProperty("cacheControl", cacheControl);
+        }
+        props.setProperty("publicRead", Boolean.toString(publicRead));
+        writeMeta(metaOf(data), props);
+
+        Path tmp = data.resolveSibling(data.getFileName() + "." + UUID.randomUUID() + TMP_SUFFIX);
+        long written = 0;
+        try (ReadableByteChannel src = Channels.newChannel(in);
+             FileChannel dst = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            long n;
+            while ((n = dst.transferFrom(src, written, CHUNK)) > 0) {
+                written += n;
+            }
+            dst.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            Files.deleteIfExists(metaOf(data));
+            throw e;
+        }
+        Files.move(tmp, data, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        pending.put(key, data);
+        spooledBytes.addAndGet(written);
+        schedule(key, 0, Duration.ZERO);
+
+        // 최종 위치(S3) URL 을 반환 → DB 에 저장된 URL 은 전송 완료 후에도 그대로 유효
+        return delegate.urlOf(key);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        Path data = pending.get(key);
+        if (data != null) {
+            try {
+                return Files.newInputStream(data);
+            } catch (IOException e) {
+                // 그 사이 전송 완료되어 삭제된 경우 → 원본에서 읽음
+            }
+        }
+        return delegate.open(key);
+    }
+
+    @Override
+    public InputStream open(String key, long start, long end) throws IOException {
+        Path data = pending.get(key);
+        if (data != null) {
+            try {
+                return Channels.newInputStream(FileChannel.open(data, StandardOpenOption.READ).position(start));
+            } catch (IOException e) {
+                // 그 사이 전송 완료되어 삭제된 경우 → 원본에서 읽음
+            }
+        }
+        return delegate.open(key, start, end);
+    }
+
+    @Override
+    public long sizeOf(String key) throws IOException {
+        Path data = pending.get(key);
+        if (data != null) {
+            try {
+                return Files.size(data);
+            } catch (IOException e) {
+                // 그 사이 전송 완료되어 삭제된 경우 → 원본에서 확인
+            }
+        }
+        return delegate.sizeOf(key);
+    }
+
+    @Override
+    public void delete(String key) throws IOException {
+        Path data = pending.remove(key);
+        // 전송이 이미 시작됐으면 그 put 이 삭제 뒤에 객체를 다시 만들 수 있음 → 전송 종료 후 재삭제 예약
+        if (uploading.containsKey(key)) {
+            deletedWhileUploading.add(key);
+        }
+        if (data != null) {
+            discard(data);
+        }
+        delegate.delete(key);
+    }
+
+    @Override
+    public String urlOf(String key) {
+        return delegate.urlOf(key);
+    }
+
+    @Override
+    public String presignedUrlOf(String key, Instant expiresAt) {
+        if (pending.containsKey(key)) {
+            return baseUrl + "/" + key;
+        }
+        return delegate.presignedUrlOf(key, expiresAt);
+    }
+
+    @Override
+    public String keyOf(String url) {
+        return delegate.keyOf(url);
+    }
+
+    @Override
+    public boolean isPending(String key) {
+        return pending.containsKey(key);
+    }
+
+    /**
+     * 스풀 서빙용: 전송 대기 중인 key 의 로컬 파일 (없으면 null)
+     */
+    public Path pendingFile(String key) {
+        return pending.get(key);
+    }
+
+    // =================== Drain ===================
+
+    private void schedule(String key, int attempt, Duration delay) {
+        drainer.schedule(() -> drain(key, attempt), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private void drain(String key, int attempt) {
+        // pending 확인 전에 전송 중 표시 → delete 가 pending 을 지운 뒤라면 여기서 null, 아니면 delete 가 표시를 봄
+        uploading.merge(key, 1, Integer::sum);
+        try {
+            Path data = pending.get(key);
+            if (data == null) {
+                return; // 이미 삭제됨
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                // 차단 중에는 S3 를 두드리지 않고 나중에 다시 시도
+                schedule(key, attempt, backoff(attempt));
+                return;
+            }
+            upload(key, data, attempt);
+        } finally {
+            // 같은 key 의 마지막 전송이 끝났을 때만 재삭제 (남은 전송이 다시 만들 수 있으므로)
+            Integer left = uploading.computeIfPresent(key, (k, n) -> n > 1 ? n - 1 : null);
+            if (left == null && deletedWhileUploading.remove(key)) {
+                deleteAfterUpload(key);
+            }
+        }
+    }
+
+    private void upload(String key, Path data, int attempt) {
+        inProgress.incrementAndGet();
+        try {
+            Properties props = readMeta(metaOf(data));
+            try (InputStream in = Files.newInputStream(data)) {
+                delegate.put(key, in, Files.size(data),
+                        props.getProperty("contentType", "application/octet-stream"),
+                        props.getProperty("cacheControl"),
+                        Boolean.parseBoolean(props.getProperty("publicRead")));
+            }
+            circuitBreaker.onSuccess();
+
+            if (pending.remove(key, data)) {
+                discard(data);
+            }
+            drained.incrementAndGet();
+        } catch (Exception e) {
+            circuitBreaker.onFailure();
+            failures.incrementAndGet();
+            Duration next = backoff(attempt + 1);
+            log.warn("S3 전송 실패 (key={}, attempt={}), {}ms 후 재시도: {}", key, attempt + 1, next.toMillis(), e.toString());
+            schedule(key, attempt + 1, next);
+        } finally {
+            inProgress.decrementAndGet();
+        }
+    }
+
+    private void deleteAfterUpload(String key) {
+        try {
+            delegate.delete(key);
+        } catch (Exception e) {
+            log.warn("전송 중 삭제된 객체 재삭제 실패 (key={}): {}", key, e.toString());
+        }
+    }
+
+    // 지수 백오프 + 지터 (최대 maxBackoff)
+    private Duration backoff(int attempt) {
+        long base = initialBackoff.toMillis() << Math.min(attempt, 20);
+        long capped = Math.min(base, maxBackoff.toMillis());
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private void discard(Path data) throws IOException {
+        long size = Files.size(data);
+        Files.deleteIfExists(metaOf(data));
+        if (Files.deleteIfExists(data)) {
+            spooledBytes.addAndGet(-size);
+        }
+    }
+
+    // =================== Files ===================
+
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root) || key.endsWith(META_SUFFIX) || key.endsWith(TMP_SUFFIX)) {
+            throw new IllegalArgumentException("잘못된 파일 경로입니다.");
+        }
+        return path;
+    }
+
+    private static Path metaOf(Path data) {
+        return data.resolveSibling(data.getFileName() + META_SUFFIX);
+    }
+
+    private static Properties readMeta(Path meta) throws IOException {
+        Properties props = new Properties();
+        try (Reader reader = Files.newBufferedReader(meta, StandardCharsets.UTF_8)) {
+            props.load(reader);
+        }
+        return props;
+    }
+
+    // 데이터 파일처럼 fsync 후 move → 전원이 나가도 메타가 비거나 잘린 채로 남지 않음
+    private static void writeMeta(Path meta, Properties props) throws IOException {
+        StringWriter writer = new StringWriter();
+        props.store(writer, null);
+        Path tmp = meta.resolveSibling(meta.getFileName() + "." + UUID.randomUUID() + TMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(writer.toString().getBytes(StandardCharsets.UTF_8));
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        Files.move(tmp, meta, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // =================== Metrics ===================
+
+    public int getPendingCount() {
+        return pending.size();
+    }
+
+    public long getSpooledBytes() {
+        return spooledBytes.get();
+    }
+
+    public long getDrainedCount() {
+        return drained.get();
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+
+    public int getInProgress() {
+        return inProgress.get();
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+}
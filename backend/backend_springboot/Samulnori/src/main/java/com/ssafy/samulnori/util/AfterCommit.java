@@ -0,0 +1,29 @@
+package com.ssafy.samulnori.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 캐시 무효화처럼 커밋된 뒤에만 의미 있는 작업 실행
+ * - 트랜잭션 안: 커밋 후 실행 (롤백되면 실행 안 함)
+ *   커밋 전에 지우면 그 사이 동시 조회가 변경 전 값을 다시 채울 수 있음
+ * - 트랜잭션 밖: 바로 실행
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
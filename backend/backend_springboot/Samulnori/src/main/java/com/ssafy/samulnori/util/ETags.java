@@ -0,0 +1,29 @@
+package com.ssafy.samulnori.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 조건부 GET 용 약한 ETag
+ * - 응답 본문 대신 버전 값(수정 시각, 카운터 등)으로 만듦 → 304 판정에 본문 조립이 필요 없음
+ * - 같은 값이면 어느 인스턴스에서 만들어도 같은 ETag
+ */
+public final class ETags {
+
+    private ETags() {
+    }
+
+    public static String weak(Object... parts) {
+        String joined = Arrays.stream(parts).map(Objects::toString).collect(Collectors.joining("|"));
+        return "W/\"" + DigestUtils.md5DigestAsHex(joined.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /** 이미 직렬화된 본문이 있을 때 */
+    public static String weak(byte[] body) {
+        return "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+    }
+}
@@ -0,0 +1,159 @@
+package com.ssafy.samulnori.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 파일을 HTTP 응답으로 전송 (Range 요청 지원)
+ * - Tomcat sendfile 지원 시: 커널 sendfile 로 zero-copy 전송
+ * - 미지원(TLS 커넥터 등) 시: FileChannel.transferTo 로 전송
+ * - 메모리 매핑된 버퍼도 같은 방식으로 전송 가능 (미디어 캐시)
+ * - 원격 객체는 요청 구간만 열어 스트림으로 전송 (캐시보다 큰 미디어)
+ */
+public final class FileRangeWriter {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final int COPY_BUFFER = 64 * 1024;
+
+    private FileRangeWriter() {
+    }
+
+    /** 원격 객체의 [start, end] 구간(end 포함)을 여는 함수 */
+    @FunctionalInterface
+    public interface RangeSource {
+        InputStream open(long start, long end) throws IOException;
+    }
+
+    public static void write(HttpServletRequest request, HttpServletResponse response,
+                             Path file, String contentType, String cacheControl) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long[] range = prepare(request, response, channel.size(), contentType, cacheControl);
+            if (range == null) {
+                return;
+            }
+
+            if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+                // 응답 커밋 후 Tomcat 이 직접 sendfile 수행 (end 는 exclusive)
+                request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+                request.setAttribute(SENDFILE_START, range[0]);
+                request.setAttribute(SENDFILE_END, range[1] + 1);
+                return;
+            }
+
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = range[0];
+            long remaining = range[1] - range[0] + 1;
+            while (remaining > 0) {
+                long n = channel.transferTo(position, remaining, out);
+                if (n <= 0) {
+                    break;
+                }
+                position += n;
+                remaining -= n;
+            }
+        }
+    }
+
+    public static void write(HttpServletRequest request, HttpServletResponse response,
+                             ByteBuffer buffer, String contentType, String cacheControl) throws IOException {
+        long[] range = prepare(request, response, buffer.remaining(), contentType, cacheControl);
+        if (range == null) {
+            return;
+        }
+
+        // 공유 버퍼의 position/limit 을 건드리지 않도록 복제본으로 전송
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(slice.position() + (int) range[0]);
+        slice.limit(slice.position() + (int) (range[1] - range[0] + 1));
+
+        WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+        while (slice.hasRemaining()) {
+            out.write(slice);
+        }
+    }
+
+    public static void write(HttpServletRequest request, HttpServletResponse response, long length,
+                             RangeSource source, String contentType, String cacheControl) throws IOException {
+        long[] range = prepare(request, response, length, contentType, cacheControl);
+        if (range == null) {
+            return;
+        }
+
+        long remaining = range[1] - range[0] + 1;
+        byte[] buffer = new byte[COPY_BUFFER];
+        try (InputStream in = source.open(range[0], range[1])) {
+            OutputStream out = response.getOutputStream();
+            while (remaining > 0) {
+                int n = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (n < 0) {
+                    break;
+                }
+                out.write(buffer, 0, n);
+                remaining -= n;
+            }
+        }
+    }
+
+    /**
+     * 상태코드/헤더 설정 후 전송할 구간 [start, end] 반환
+     * - 본문을 보낼 필요가 없으면 (HEAD, 416, 빈 파일) null
+     */
+    private static long[] prepare(HttpServletRequest request, HttpServletResponse response,
+                                  long length, String contentType, String cacheControl) {
+        long start = 0;
+        long end = length - 1;   // inclusive
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null) {
+            try {
+                // 다중 Range 는 첫 번째 구간만 응답 (영상 플레이어는 단일 구간만 요청)
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (!ranges.isEmpty()) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                }
+                // 시작 위치가 객체 끝을 넘으면 만족할 수 없는 구간
+                if (start >= length || start > end) {
+                    throw new IllegalArgumentException("Range 범위 초과: " + rangeHeader);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE); // 416
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return null;
+            }
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT); // 206
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        } else {
+            response.setStatus(HttpServletResponse.SC_OK);
+        }
+
+        long count = length == 0 ? 0 : end - start + 1;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(contentType);
+        response.setContentLengthLong(count);
+        if (cacheControl != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count == 0) {
+            return null;
+        }
+        return new long[]{start, end};
+    }
+}
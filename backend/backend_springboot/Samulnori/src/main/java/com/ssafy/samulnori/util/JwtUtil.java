@@ -1,5 +1,7 @@
 package com.ssafy.samulnori.util;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -13,6 +15,8 @@ import java.util.Date;
 public class JwtUtil {
 
     private SecretKey secretKey;
+    // 파서는 불변·스레드 안전 → 요청마다 빌드하지 않고 재사용
+    private final JwtParser parser;
 
     public static final long ACCESS_EXP = 1000L * 60 * 15;           // 15분
     public static final long REFRESH_EXP = 1000L * 60 * 60 * 2;      // 2시간
@@ -22,6 +26,7 @@ public class JwtUtil {
                 secret.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm()
         );
+        this.parser = Jwts.parser().verifyWith(secretKey).build();
     }
 
     // ✅ 공통 JWT 생성
@@ -53,44 +58,28 @@ public class JwtUtil {
                 .compact();
     }
 
+    // ✅ 서명 검증 + 클레임 추출 (한 번만 파싱해 여러 값을 꺼낼 때 사용)
+    public Claims getClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
     // ✅ 만료 여부 확인
     public Boolean isExpired(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .getExpiration()
-                .before(new Date());
+        return getClaims(token).getExpiration().before(new Date());
     }
 
     // ✅ 유저 ID 추출
     public String getId(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("id", String.class);
+        return getClaims(token).get("id", String.class);
     }
 
     // ✅ 로그인 이름 추출
     public String getLoginName(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("loginName", String.class);
+        return getClaims(token).get("loginName", String.class);
     }
 
     // ✅ 역할 추출
     public String getRole(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload()
-                .get("role", String.class);
+        return getClaims(token).get("role", String.class);
     }
 }
@@ -0,0 +1,47 @@
+package com.ssafy.samulnori.util;
+
+/**
+ * 현재 스레드에서 실행된 JDBC 문장 수/시간 집계
+ * - QueryCountingSessionListener 가 기록하고, QueryCountFilter(요청 단위)·테스트(@MaxQueries) 가 start/stop
+ * - start 하지 않은 스레드에서는 기록하지 않음 (비동기 업로드의 db 벌크헤드 작업 등은 요청 집계에서 빠짐)
+ */
+public final class QueryCounter {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static final class Counts {
+        private int statements;
+        private long nanos;
+
+        public int getStatements() {
+            return statements;
+        }
+
+        public long getDbTimeMillis() {
+            return nanos / 1_000_000;
+        }
+    }
+
+    public static Counts start() {
+        Counts counts = new Counts();
+        CURRENT.set(counts);
+        return counts;
+    }
+
+    public static Counts stop() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts;
+    }
+
+    static void record(int statements, long nanos) {
+        Counts counts = CURRENT.get();
+        if (counts != null) {
+            counts.statements += statements;
+            counts.nanos += nanos;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.ssafy.samulnori.util;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Hibernate 세션마다 생성되어 JDBC 실행 시간을 QueryCounter 에 기록
+ * (hibernate.session.events.auto 로 등록, QueryCountConfig 참고)
+ */
+public class QueryCountingSessionListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        QueryCounter.record(1, System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        // 배치는 왕복 1회로 집계
+        QueryCounter.record(1, System.nanoTime() - batchStart);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ssafy.samulnori.util;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 응답 인코딩 선택 (application/json | application/cbor)
+ * - 본문을 만들기 전에 인코딩을 정해야 하는 곳(피드 응답 캐시, 조건부 GET 의 ETag)에서 사용
+ * - 품질값이 가장 높은 Accept 기준, JSON 과 호환되면(와일드카드 포함) JSON, 아무것도 없거나 해석할 수 없으면 JSON
+ */
+public final class ResponseFormats {
+
+    private ResponseFormats() {
+    }
+
+    public static MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return MediaType.APPLICATION_JSON;
+        }
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept).stream()
+                    .sorted(Comparator.comparingDouble(MediaType::getQualityValue).reversed())
+                    .toList();
+        } catch (InvalidMediaTypeException e) {
+            // 잘못된 Accept 때문에 500 이 나지 않도록 기본 인코딩으로
+            return MediaType.APPLICATION_JSON;
+        }
+        for (MediaType type : types) {
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return MediaType.APPLICATION_JSON;
+            }
+            if (type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return MediaType.APPLICATION_CBOR;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ssafy.samulnori.util;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 순 정렬되는 ID 발급기 (Snowflake 방식, DB 조율 없음)
+ *
+ * <pre>
+ * | 41 bit: EPOCH 이후 ms | 5 bit: 노드 | 7 bit: ms 내 시퀀스 |  = 53 bit
+ * </pre>
+ * - 프론트엔드(JS Number)가 정밀도 손실 없이 다룰 수 있도록 2^53 - 1 이하로 제한 (BIGINT 컬럼 그대로 사용)
+ * - 노드당 ms 당 128 개 (초당 12.8 만), 노드 32 개, 2094 년까지
+ * - 같은 노드 안에서는 항상 증가: 시퀀스를 다 쓰면 다음 ms 까지 대기,
+ *   시계가 뒤로 가면 마지막 시각을 기준으로 이어서 발급 (필요하면 논리 시각을 1ms 씩 앞당김)
+ * - 락 없이 (마지막 시각 | 시퀀스) 를 묶은 하나의 AtomicLong 을 CAS 로 갱신, 다음 ms 대기도 락 밖에서 함
+ */
+public final class SnowflakeIds {
+
+    /** 2025-01-01T00:00:00Z */
+    public static final long EPOCH = 1735689600000L;
+
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE = (1 << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private static final Map<Integer, SnowflakeIds> NODES = new ConcurrentHashMap<>();
+
+    private final long node;
+    private final LongSupplier clock;
+
+    // (마지막 시각 << SEQUENCE_BITS) | 시퀀스, 초기값 -1 → 마지막 시각 -1 (산술 시프트)
+    private final AtomicLong state = new AtomicLong(-1);
+
+    SnowflakeIds(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("노드 ID 는 0~" + MAX_NODE + " 범위여야 합니다: " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    /** 노드별 공유 인스턴스 (엔티티 종류와 무관하게 하나의 시퀀스) */
+    public static SnowflakeIds forNode(int node) {
+        return NODES.computeIfAbsent(node, n -> new SnowflakeIds(n, System::currentTimeMillis));
+    }
+
+    public long next() {
+        while (true) {
+            long prev = state.get();
+            long lastTimestamp = prev >> SEQUENCE_BITS;
+            long now = clock.getAsLong() - EPOCH;
+
+            long updated;
+            if (now > lastTimestamp) {
+                updated = now << SEQUENCE_BITS;
+            } else if ((prev & SEQUENCE_MASK) < SEQUENCE_MASK) {
+                updated = prev + 1;
+            } else if (now == lastTimestamp) {
+                // 이번 ms 시퀀스 소진 → 다음 ms 까지 대기 후 다시 시도
+                Thread.onSpinWait();
+                continue;
+            } else {
+                // 시계가 뒤로 간 상태: 기다리지 않고 논리 시각을 앞당김
+                updated = (lastTimestamp + 1) << SEQUENCE_BITS;
+            }
+
+            if (state.compareAndSet(prev, updated)) {
+                long timestamp = updated >> SEQUENCE_BITS;
+                return (timestamp << TIMESTAMP_SHIFT) | (node << SEQUENCE_BITS) | (updated & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /** ID 가 발급된 시각 (키셋 페이지네이션에서 시각 ↔ ID 경계 변환용) */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> TIMESTAMP_SHIFT) + EPOCH);
+    }
+
+    /** 해당 시각 이후에 발급된 모든 ID 보다 작거나 같은 최소 ID */
+    public static long lowerBound(Instant instant) {
+        return Math.max(0, instant.toEpochMilli() - EPOCH) << TIMESTAMP_SHIFT;
+    }
+
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ssafy.samulnori.warmup;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hikari 커넥션 미리 열기
+ * 풀은 첫 getConnection 에서야 시작되고 나머지는 하우스키퍼가 천천히 채움 → 첫 트래픽이 커넥션 생성(TCP+TLS+인증)을 기다리지 않도록
+ * 동시에 빌려 물리 커넥션을 N 개 만들고 바로 반납 (풀 최대 크기 이하)
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+public class ConnectionPoolWarmupTask implements WarmupTask {
+
+    private final DataSource dataSource;
+
+    @Value("${warmup.db-connections}")
+    private int connections;
+
+    @Override
+    public String name() {
+        return "db-pool";
+    }
+
+    @Override
+    public void run(Instant deadline) throws SQLException {
+        int target = connections;
+        if (dataSource instanceof HikariDataSource hikari) {
+            target = Math.min(target, hikari.getMaximumPoolSize());
+        }
+        List<Connection> opened = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target && Instant.now().isBefore(deadline); i++) {
+                Connection connection = dataSource.getConnection();
+                opened.add(connection);
+                connection.isValid(1);
+            }
+        } finally {
+            for (Connection connection : opened) {
+                connection.close();
+            }
+        }
+    }
+}
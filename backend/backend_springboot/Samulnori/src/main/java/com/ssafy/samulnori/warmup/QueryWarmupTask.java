@@ -0,0 +1,54 @@
+package com.ssafy.samulnori.warmup;
+
+import com.ssafy.samulnori.model.repository.CommentLikeRepository;
+import com.ssafy.samulnori.model.repository.FollowRepository;
+import com.ssafy.samulnori.model.repository.VideoLikeRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 요청 재생(GET)으로는 실행되지 않는 쓰기/상세 조회 쿼리를 한 번씩 실행해 Hibernate 쿼리 해석·SQL 변환 캐시를 채움
+ * 존재하지 않는 ID(-1)로 실행하고 트랜잭션은 롤백 → 데이터 변경 없음
+ * (GET /videos/{id} 는 조회수를 올리므로 요청 재생 대신 여기서 처리)
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+public class QueryWarmupTask implements WarmupTask {
+
+    private static final Long NONE = -1L;
+
+    private final PlatformTransactionManager transactionManager;
+    private final VideoRepository videoRepository;
+    private final VideoLikeRepository videoLikeRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final FollowRepository followRepository;
+
+    @Override
+    public String name() {
+        return "queries";
+    }
+
+    @Override
+    public void run(Instant deadline) {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            videoRepository.findWithUserById(NONE);
+            videoRepository.addViewCnt(NONE, 1);
+            videoLikeRepository.existsByUserIdAndVideoIdAndIsLikedTrue(NONE, NONE);
+            commentLikeRepository.findLikedCommentIds(NONE, List.of(NONE));
+            commentLikeRepository.findLikedParentCommentIds(NONE, NONE);
+            followRepository.existsByFollowerIdAndFolloweeId(NONE, NONE);
+            followRepository.deleteByFollowerIdAndFolloweeId(NONE, NONE);
+            followRepository.incrementFollowerCnt(NONE);
+            followRepository.decrementFollowerCnt(NONE);
+            status.setRollbackOnly();
+        });
+    }
+}
@@ -0,0 +1,140 @@
+package com.ssafy.samulnori.warmup;
+
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import com.ssafy.samulnori.util.JwtUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 합성 요청 재생: 로컬 포트로 읽기 전용 GET 혼합을 보내 필터 체인(JWT), 컨트롤러, 서비스, JPA, Jackson 경로를 JIT 예열
+ * - 가장 최근 사용자/영상을 표본으로 사용 (DB 가 비어 있으면 목록/검색만)
+ * - 인증 경로(/videos/following, /videos/my, 댓글 좋아요 여부)는 표본 사용자로 발급한 토큰 사용 (루프백 밖으로 나가지 않음)
+ * - 비로그인 피드/프로필은 응답 캐시에서 바로 나가므로, 피드는 토큰을 붙여 VideoService 경로를,
+ *   프로필은 캐시를 거치지 않는 다음 페이지 조회(/profile/videos?cursor=)로 조회/매핑 경로를 예열
+ * - 부수효과가 있는 요청(조회수 증가, 좋아요 등)은 보내지 않음 → QueryWarmupTask 참고
+ * 표시용 presigned URL 서명 캐시도 이 과정에서 채워짐
+ */
+@Slf4j
+@Component
+@Order(3)
+@RequiredArgsConstructor
+public class RequestReplayWarmupTask implements WarmupTask {
+
+    private final ApplicationContext context;
+    private final UserRepository userRepository;
+    private final VideoRepository videoRepository;
+    private final JwtUtil jwtUtil;
+
+    @Value("${warmup.requests.iterations}")
+    private int iterations;
+
+    @Value("${warmup.requests.concurrency}")
+    private int concurrency;
+
+    @Override
+    public String name() {
+        return "requests";
+    }
+
+    @Override
+    public void run(Instant deadline) throws InterruptedException {
+        if (!(context instanceof WebServerApplicationContext web) || web.getWebServer() == null
+                || web.getWebServer().getPort() <= 0) {
+            log.info("Warm-up request replay skipped: no local web server");
+            return;
+        }
+        List<HttpRequest> mix = requestMix("http://localhost:" + web.getWebServer().getPort());
+        HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(2)).build();
+
+        AtomicInteger sent = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        int rounds = Math.max(1, iterations / concurrency);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            for (int w = 0; w < concurrency; w++) {
+                workers.execute(() -> {
+                    for (int i = 0; i < rounds && Instant.now().isBefore(deadline); i++) {
+                        for (HttpRequest request : mix) {
+                            sent.incrementAndGet();
+                            try {
+                                if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 500) {
+                                    failed.incrementAndGet();
+                                }
+                            } catch (Exception e) {
+                                failed.incrementAndGet();
+                            }
+                        }
+                    }
+                });
+            }
+        } finally {
+            workers.shutdown();
+        }
+        workers.awaitTermination(Math.max(0, Duration.between(Instant.now(), deadline).toMillis()) + 5_000,
+                TimeUnit.MILLISECONDS);
+        log.info("Warm-up replayed {} requests ({} endpoints, {} failed)", sent.get(), mix.size(), failed.get());
+    }
+
+    private List<HttpRequest> requestMix(String baseUrl) {
+        List<String> paths = new ArrayList<>(List.of(
+                "/videos?sortBy=latest",
+                "/videos?sortBy=popular",
+                "/videos/search?keyword=a",
+                "/users/search?keyword=a"));
+        List<String> authenticated = new ArrayList<>();
+
+        UserEntity user = userRepository.findAll(PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id")))
+                .stream().findFirst().orElse(null);
+        Video video = videoRepository.findAll(PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "id")))
+                .stream().findFirst().orElse(null);
+        if (user != null) {
+            paths.add("/users/" + user.getId() + "/profile");
+            paths.add("/users/" + user.getId() + "/profile/videos?cursor=" + Long.MAX_VALUE);
+            paths.add("/follow/followers/" + user.getId());
+            paths.add("/follow/followings/" + user.getId());
+            authenticated.add("/videos?sortBy=latest");
+            authenticated.add("/videos?sortBy=popular");
+            authenticated.add("/videos?sortBy=latest&normalized=true");
+            authenticated.add("/videos/following");
+            authenticated.add("/videos/my");
+        }
+        if (video != null) {
+            paths.add("/videos/" + video.getId() + "/comments");
+            if (user != null) {
+                authenticated.add("/videos/" + video.getId() + "/comments");
+            }
+        }
+
+        List<HttpRequest> mix = new ArrayList<>();
+        paths.forEach(path -> mix.add(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build()));
+        if (user != null) {
+            String cookie = "AccessToken=" + jwtUtil.createAccessToken(String.valueOf(user.getId()), user.getLoginName(), "ROLE_USER");
+            authenticated.forEach(path -> mix.add(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .header("Cookie", cookie).GET().build()));
+        }
+        return mix;
+    }
+}
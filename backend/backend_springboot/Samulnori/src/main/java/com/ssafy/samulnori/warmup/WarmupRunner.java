@@ -0,0 +1,77 @@
+package com.ssafy.samulnori.warmup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기동 예열 단계
+ * - ApplicationRunner 는 ApplicationReadyEvent 이전에 실행되므로, 끝날 때까지 readiness 는 REFUSING_TRAFFIC
+ *   (/actuator/health/readiness 가 503 → 로드밸런서가 트래픽을 보내지 않음)
+ * - 웹 서버는 이미 떠 있어 WarmupTask 가 로컬 포트로 실제 요청을 보낼 수 있음
+ * - 작업 실패는 경고만 남기고 기동을 막지 않음, 전체 시간은 warmup.max-duration 으로 제한
+ * - 소요 시간: application.warmup.time (전체), application.warmup{task} (작업별)
+ * AOT/네이티브 빌드에서도 끌 수 있도록 조건부 빈 대신 실행 시 플래그로 판단
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WarmupRunner implements ApplicationRunner {
+
+    private final ObjectProvider<WarmupTask> tasks;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong totalMillis = new AtomicLong(-1);
+
+    @Value("${warmup.enabled}")
+    private boolean enabled;
+
+    @Value("${warmup.max-duration}")
+    private Duration maxDuration;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        TimeGauge.builder("application.warmup.time", totalMillis, TimeUnit.MILLISECONDS,
+                        v -> v.get() < 0 ? Double.NaN : v.get())
+                .description("Time spent in the startup warm-up phase before readiness")
+                .register(meterRegistry);
+
+        long started = System.nanoTime();
+        Instant deadline = Instant.now().plus(maxDuration);
+        StringJoiner summary = new StringJoiner(", ");
+        tasks.orderedStream().forEach(task -> {
+            if (Instant.now().isAfter(deadline)) {
+                summary.add(task.name() + "=skipped");
+                return;
+            }
+            long taskStarted = System.nanoTime();
+            try {
+                task.run(deadline);
+            } catch (Exception e) {
+                log.warn("Warm-up task '{}' failed: {}", task.name(), e.toString());
+            }
+            long elapsed = System.nanoTime() - taskStarted;
+            Timer.builder("application.warmup").tag("task", task.name()).register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            summary.add(task.name() + "=" + TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms");
+        });
+        totalMillis.set(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        log.info("Warm-up finished in {} ms ({})", totalMillis.get(), summary);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.samulnori.warmup;
+
+import java.time.Instant;
+
+/**
+ * 기동 직후 readiness 전에 한 번 실행되는 예열 작업 (WarmupRunner 가 @Order 순서로 실행)
+ * 캐시 등 새 컴포넌트는 이 인터페이스의 빈을 추가해 예열 단계에 참여
+ */
+public interface WarmupTask {
+
+    /** 로그/메트릭 태그에 쓰이는 이름 */
+    String name();
+
+    /**
+     * @param deadline 전체 예열 마감 시각, 반복 작업은 이 시각이 지나면 중단
+     */
+    void run(Instant deadline) throws Exception;
+}
@@ -0,0 +1,262 @@
+package com.ssafy.samulnori.bench;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 규모 테스트용 합성 데이터 생성기 (JDBC 배치 INSERT)
+ * - 사용자 / 팔로우 / 영상 / 좋아요 / 댓글·대댓글 / 댓글 좋아요 / 소셜 계정 / 리프레시 토큰
+ * - 팔로우·좋아요 등 관계는 출차수(out-degree)가 멱법칙(Pareto), 대상은 앞쪽 id 로 쏠리게 선택
+ *   → id 가 작을수록 인기 사용자/영상/댓글 (벤치마크에서 "핫" 케이스로 사용)
+ * - 카운터 컬럼(follower_cnt, like_cnt 등)은 적재 후 집계 UPDATE 로 실제 행 수와 맞춤
+ * - 같은 seed 면 같은 데이터 (MySQL 은 JDBC URL 에 rewriteBatchedStatements=true 권장)
+ */
+public class DatasetGenerator {
+
+    /** 생성 규모. 이름은 가장 큰 테이블(팔로우/좋아요/댓글)의 행 수 기준 */
+    public record Spec(int users, int videos, long follows, long likes, long comments, double replyRatio,
+                       long commentLikes, long seed) {
+
+        public static Spec of(String scale) {
+            return switch (scale.toLowerCase(Locale.ROOT)) {
+                case "10k" -> new Spec(1_000, 2_000, 10_000, 10_000, 10_000, 0.3, 10_000, 42);
+                case "1m" -> new Spec(50_000, 100_000, 1_000_000, 1_000_000, 1_000_000, 0.3, 1_000_000, 42);
+                case "10m" -> new Spec(500_000, 1_000_000, 10_000_000, 10_000_000, 10_000_000, 0.3, 10_000_000, 42);
+                default -> throw new IllegalArgumentException("지원하지 않는 규모입니다: " + scale + " (10k | 1m | 10m)");
+            };
+        }
+
+        /** dataset.users 등 system property 로 개별 값 덮어쓰기 */
+        public Spec withOverrides() {
+            return new Spec(Integer.getInteger("dataset.users", users),
+                    Integer.getInteger("dataset.videos", videos),
+                    Long.getLong("dataset.follows", follows),
+                    Long.getLong("dataset.likes", likes),
+                    Long.getLong("dataset.comments", comments),
+                    Double.parseDouble(System.getProperty("dataset.replyRatio", String.valueOf(replyRatio))),
+                    Long.getLong("dataset.commentLikes", commentLikes),
+                    Long.getLong("dataset.seed", seed));
+        }
+    }
+
+    /** 생성 결과 (실제 적재 행 수 + 벤치마크에서 쓸 대표 id) */
+    public record Summary(long users, long follows, long videos, long likes, long parentComments,
+                          long replies, long commentLikes, long hotUserId, long typicalUserId,
+                          long hotVideoId, long typicalVideoId, long threadParentId) {
+    }
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final double PARETO_ALPHA = 1.5;
+    private static final double TARGET_SKEW = 3.0;
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbc;
+
+    public DatasetGenerator(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    public Summary generate(Spec spec) {
+        SplittableRandom random = new SplittableRandom(spec.seed());
+        int users = spec.users();
+        int videos = spec.videos();
+
+        // 1) 사용자 (+ 소셜 계정, 20% 는 리프레시 토큰 보유)
+        // try-with-resources 는 역순으로 닫히므로 users 를 마지막에 선언 → FK 대상이 먼저 flush
+        try (Batch tokenBatch = new Batch("INSERT INTO tokens (id, user_id, refresh_token, refresh_expired_at, created_at) "
+                + "VALUES (?, ?, ?, ?, ?)");
+             Batch socialBatch = new Batch("INSERT INTO social_accounts (id, user_id, provider, provider_id, "
+                     + "access_token, refresh_token) VALUES (?, ?, ?, ?, ?, ?)");
+             Batch userBatch = new Batch("INSERT INTO users (id, email, password, nickname, login_name, profile_img, "
+                     + "follower_cnt, video_cnt, introduce, created_at) VALUES (?, ?, ?, ?, ?, ?, 0, 0, ?, ?)")) {
+            long tokenId = 0;
+            String[] providers = {"google", "kakao", "naver"};
+            for (long id = 1; id <= users; id++) {
+                Timestamp createdAt = timestamp(random);
+                userBatch.add(id, "user" + id + "@samulnori.test", null, "nick" + id, "login" + id,
+                        "https://samulnori.s3.ap-northeast-2.amazonaws.com/profile-images/" + id + ".jpg",
+                        "introduce " + id, createdAt);
+                socialBatch.add(id, id, providers[(int) (id % 3)], "provider-" + id, "access-" + id, null);
+                if (id % 5 == 0) {
+                    tokenBatch.add(++tokenId, id, "refresh-" + id + "-" + random.nextLong(),
+                            Timestamp.valueOf(EPOCH.plusYears(2)), createdAt);
+                }
+            }
+        }
+
+        // 2) 팔로우 (자기 자신 제외)
+        long follows;
+        try (Batch batch = new Batch("INSERT INTO user_follow (id, follower_id, followee_id, created_at) "
+                + "VALUES (?, ?, ?, ?)")) {
+            long[] seq = {0};
+            edges(random, users, users, spec.follows(), true, (follower, followee) ->
+                    batch.add(++seq[0], follower + 1, followee + 1, timestamp(random)));
+            follows = seq[0];
+        }
+
+        // 3) 영상 (업로더도 인기 사용자 쪽으로 쏠림)
+        try (Batch batch = new Batch("INSERT INTO videos (id, user_id, title, description, video_url, thumbnail_url, "
+                + "runtime, created_at, updated_at, view_cnt, like_cnt, comment_cnt) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, 0)")) {
+            for (long id = 1; id <= videos; id++) {
+                Timestamp createdAt = timestamp(random);
+                batch.add(id, skewed(random, users) + 1L, "사물놀이 연습 " + id, "장구 북 징 꽹과리 합주 #" + id,
+                        "https://samulnori.s3.ap-northeast-2.amazonaws.com/videos/" + id + ".mp4",
+                        "https://samulnori.s3.ap-northeast-2.amazonaws.com/thumbnails/" + id + ".png",
+                        30 + random.nextInt(600), createdAt,
+                        Timestamp.valueOf(createdAt.toLocalDateTime().plusMinutes(random.nextInt(10_000))),
+                        random.nextInt(100_000));
+            }
+        }
+
+        // 4) 좋아요 (10% 는 취소 상태)
+        long likes;
+        try (Batch batch = new Batch("INSERT INTO likes (id, user_id, video_id, is_liked, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)")) {
+            long[] seq = {0};
+            edges(random, users, videos, spec.likes(), false, (user, video) -> {
+                Timestamp at = timestamp(random);
+                batch.add(++seq[0], user + 1, video + 1, random.nextInt(10) != 0, at, at);
+            });
+            likes = seq[0];
+        }
+
+        // 5) 부모 댓글 → 대댓글 (대댓글은 부모 댓글의 영상을 그대로 따름)
+        long parents = Math.max(1, Math.round(spec.comments() * (1 - spec.replyRatio())));
+        long replies = spec.comments() - parents;
+        int[] parentVideo = new int[(int) parents];
+        try (Batch batch = new Batch("INSERT INTO comments (id, user_id, video_id, content, parent_comment_id, "
+                + "created_at, like_cnt) VALUES (?, ?, ?, ?, ?, ?, 0)")) {
+            for (int i = 0; i < parents; i++) {
+                parentVideo[i] = skewed(random, videos);
+                batch.add((long) i + 1, random.nextInt(users) + 1L, parentVideo[i] + 1L, "댓글 " + (i + 1), null,
+                        timestamp(random));
+            }
+            for (long i = 0; i < replies; i++) {
+                int parent = skewed(random, (int) parents);
+                batch.add(parents + i + 1, random.nextInt(users) + 1L, parentVideo[parent] + 1L,
+                        "대댓글 " + (i + 1), parent + 1L, timestamp(random));
+            }
+        }
+
+        // 6) 댓글 좋아요
+        long commentLikes;
+        try (Batch batch = new Batch("INSERT INTO comment_likes (id, user_id, comment_id, is_liked, created_at, "
+                + "updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            long[] seq = {0};
+            int totalComments = (int) (parents + replies);
+            edges(random, users, totalComments, spec.commentLikes(), false, (user, comment) -> {
+                Timestamp at = timestamp(random);
+                batch.add(++seq[0], user + 1, comment + 1, random.nextInt(10) != 0, at, at);
+            });
+            commentLikes = seq[0];
+        }
+
+        // 7) 카운터 컬럼 동기화
+        jdbc.update("UPDATE users u SET follower_cnt = (SELECT COUNT(*) FROM user_follow f WHERE f.followee_id = u.id), "
+                + "video_cnt = (SELECT COUNT(*) FROM videos v WHERE v.user_id = u.id)");
+        jdbc.update("UPDATE videos v SET like_cnt = (SELECT COUNT(*) FROM likes l WHERE l.video_id = v.id AND l.is_liked = TRUE), "
+                + "comment_cnt = (SELECT COUNT(*) FROM comments c WHERE c.video_id = v.id)");
+        jdbc.update("UPDATE comments c SET like_cnt = (SELECT COUNT(*) FROM comment_likes l WHERE l.comment_id = c.id AND l.is_liked = TRUE)");
+
+        restartIdentities();
+
+        return new Summary(users, follows, videos, likes, parents, replies, commentLikes,
+                1, users / 2 + 1, 1, videos / 2 + 1, 1);
+    }
+
+    /**
+     * 관계 생성: 출발점마다 Pareto 분포 출차수, 도착점은 앞쪽 id 로 쏠리게 중복 없이 선택
+     * - 전체 합이 total 에 가깝도록 비율 보정, 출차수는 대상 수의 절반으로 상한
+     */
+    private void edges(SplittableRandom random, int sources, int targets, long total, boolean noSelf,
+                       EdgeConsumer consumer) {
+        double[] raw = new double[sources];
+        double sum = 0;
+        for (int i = 0; i < sources; i++) {
+            raw[i] = Math.pow(1 - random.nextDouble(), -1 / PARETO_ALPHA);
+            sum += raw[i];
+        }
+        double scale = total / sum;
+        int cap = Math.max(1, targets / 2);
+        for (int source = 0; source < sources; source++) {
+            int degree = (int) Math.min(cap, Math.round(raw[source] * scale));
+            Set<Integer> chosen = new HashSet<>(degree * 2);
+            while (chosen.size() < degree) {
+                int target = skewed(random, targets);
+                if (noSelf && target == source) {
+                    continue;
+                }
+                if (chosen.add(target)) {
+                    consumer.accept(source, target);
+                }
+            }
+        }
+    }
+
+    /** 0..n-1, 작은 값일수록 자주 나옴 (상위 약 20% 가 절반 이상을 차지) */
+    private static int skewed(SplittableRandom random, int n) {
+        return Math.min(n - 1, (int) (n * Math.pow(random.nextDouble(), TARGET_SKEW)));
+    }
+
+    private static Timestamp timestamp(SplittableRandom random) {
+        return Timestamp.valueOf(EPOCH.plusSeconds(random.nextInt(365 * 24 * 3600)));
+    }
+
+    /** id 를 직접 넣었으므로 H2 는 identity 시작값을 맞춰줘야 이후 INSERT 가 충돌하지 않음 (MySQL 은 자동) */
+    private void restartIdentities() {
+        String product = jdbc.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        if (!"H2".equalsIgnoreCase(product)) {
+            return;
+        }
+        for (String table : List.of("users", "social_accounts", "tokens", "user_follow", "videos", "likes",
+                "comments", "comment_likes")) {
+            Long max = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (max + 1));
+        }
+    }
+
+    @FunctionalInterface
+    private interface EdgeConsumer {
+        void accept(int source, int target);
+    }
+
+    /** BATCH_SIZE 단위로 executeBatch 하는 INSERT 버퍼 */
+    private final class Batch implements AutoCloseable {
+
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        Batch(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() == BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            if (!rows.isEmpty()) {
+                jdbc.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
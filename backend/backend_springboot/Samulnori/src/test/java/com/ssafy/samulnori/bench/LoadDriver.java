@@ -0,0 +1,268 @@
+package com.ssafy.samulnori.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 폐쇄 루프(closed-loop) HTTP 부하 드라이버
+ * - 시나리오마다 동시 사용자 N 명이 응답을 받자마자 다음 요청을 보냄
+ * - 워밍업 구간은 버리고 측정 구간의 처리량 / p50 / p99 / max 를 출력
+ * - 실행 중인 서버에 붙어 동작 (scripts/bench-threading.sh 에서 스레드 모드별로 호출)
+ *
+ * 설정 (system property)
+ * - bench.baseUrl (http://localhost:8080), bench.label (결과 구분용 이름)
+ * - bench.token: 업로드용 AccessToken 쿠키 값 (없으면 upload 시나리오 생략)
+ * - bench.videoId (1), bench.concurrency (64), bench.uploadConcurrency (8), bench.uploadBytes (1048576)
+ * - bench.warmup (10s), bench.duration (30s), bench.out: 결과 CSV 를 덧붙일 파일
+ */
+public final class LoadDriver {
+
+    public record Scenario(String name, int concurrency, Supplier<HttpRequest> request) {
+    }
+
+    public record Result(String label, String scenario, int concurrency, long requests, long errors,
+                         double throughput, double p50Ms, double p99Ms, double maxMs) {
+
+        static final String CSV_HEADER = "label,scenario,concurrency,requests,errors,rps,p50_ms,p99_ms,max_ms";
+
+        String toCsv() {
+            return String.format(Locale.ROOT, "%s,%s,%d,%d,%d,%.1f,%.2f,%.2f,%.2f",
+                    label, scenario, concurrency, requests, errors, throughput, p50Ms, p99Ms, maxMs);
+        }
+    }
+
+    private LoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("bench.baseUrl", "http://localhost:8080");
+        String label = System.getProperty("bench.label", "default");
+        String token = System.getProperty("bench.token");
+        long videoId = Long.getLong("bench.videoId", 1L);
+        int concurrency = Integer.getInteger("bench.concurrency", 64);
+        int uploadConcurrency = Integer.getInteger("bench.uploadConcurrency", 8);
+        int uploadBytes = Integer.getInteger("bench.uploadBytes", 1 << 20);
+        Duration warmup = Duration.parse("PT" + System.getProperty("bench.warmup", "10s"));
+        Duration duration = Duration.parse("PT" + System.getProperty("bench.duration", "30s"));
+        String out = System.getProperty("bench.out");
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        List<Scenario> scenarios = new ArrayList<>();
+        scenarios.add(new Scenario("feed", concurrency,
+                () -> HttpRequest.newBuilder(URI.create(baseUrl + "/videos?sortBy=latest")).GET().build()));
+        scenarios.add(new Scenario("detail", concurrency,
+                () -> HttpRequest.newBuilder(URI.create(baseUrl + "/videos/" + videoId)).GET().build()));
+        if (token != null && !token.isBlank()) {
+            byte[] payload = new byte[uploadBytes];
+            ThreadLocalRandom.current().nextBytes(payload);
+            scenarios.add(new Scenario("upload", uploadConcurrency,
+                    () -> uploadRequest(baseUrl, token, payload)));
+        } else {
+            System.out.println("bench.token 이 없어 upload 시나리오는 생략합니다.");
+        }
+
+        List<Result> results = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            Result result = run(client, label, scenario, warmup, duration);
+            System.out.println(result.toCsv());
+            results.add(result);
+        }
+
+        if (out != null) {
+            Path path = Path.of(out);
+            List<String> lines = new ArrayList<>();
+            if (!Files.exists(path)) {
+                lines.add(Result.CSV_HEADER);
+            }
+            results.forEach(r -> lines.add(r.toCsv()));
+            Files.write(path, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    /**
+     * 워밍업 후 측정 구간 동안 시나리오 실행
+     * - 2xx/3xx 외 응답, 예외는 에러로 집계 (지연 시간 분포에는 포함)
+     */
+    public static Result run(HttpClient client, String label, Scenario scenario,
+                             Duration warmup, Duration duration) throws Exception {
+        return runMix(client, label, List.of(new Weighted(scenario, 1)), scenario.concurrency(), warmup, duration)
+                .get(0);
+    }
+
+    /** 혼합 부하에서의 시나리오 비중 */
+    public record Weighted(Scenario scenario, int weight) {
+    }
+
+    /**
+     * 여러 시나리오를 비중대로 섞어 실행하고 시나리오별 결과를 반환
+     * - 사용자(워커)마다 매 요청 시 비중에 따라 시나리오를 무작위 선택
+     */
+    public static List<Result> runMix(HttpClient client, String label, List<Weighted> mix, int concurrency,
+                                      Duration warmup, Duration duration) throws Exception {
+        int[] cumulative = new int[mix.size()];
+        int total = 0;
+        for (int i = 0; i < mix.size(); i++) {
+            total += mix.get(i).weight();
+            cumulative[i] = total;
+        }
+        int totalWeight = total;
+
+        AtomicBoolean measuring = new AtomicBoolean(false);
+        AtomicBoolean stop = new AtomicBoolean(false);
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Samples[]>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(() -> {
+                    Samples[] samples = new Samples[mix.size()];
+                    for (int s = 0; s < samples.length; s++) {
+                        samples[s] = new Samples();
+                    }
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (!stop.get()) {
+                        int pick = pick(cumulative, random.nextInt(totalWeight));
+                        long start = System.nanoTime();
+                        boolean ok;
+                        try {
+                            HttpResponse<Void> response = client.send(mix.get(pick).scenario().request().get(),
+                                    HttpResponse.BodyHandlers.discarding());
+                            ok = response.statusCode() < 400;
+                        } catch (IOException e) {
+                            ok = false;
+                        }
+                        long elapsed = System.nanoTime() - start;
+                        if (measuring.get()) {
+                            samples[pick].latencies.add(elapsed);
+                            if (!ok) {
+                                samples[pick].errors++;
+                            }
+                        }
+                    }
+                    return samples;
+                }));
+            }
+
+            Thread.sleep(warmup.toMillis());
+            measuring.set(true);
+            long measureStart = System.nanoTime();
+            Thread.sleep(duration.toMillis());
+            measuring.set(false);
+            long measuredNanos = System.nanoTime() - measureStart;
+            stop.set(true);
+
+            List<Samples[]> all = new ArrayList<>();
+            for (Future<Samples[]> f : futures) {
+                all.add(f.get());
+            }
+            double seconds = measuredNanos / 1e9;
+
+            List<Result> results = new ArrayList<>();
+            for (int s = 0; s < mix.size(); s++) {
+                int idx = s;
+                long[] latencies = all.stream()
+                        .flatMapToLong(w -> Arrays.stream(w[idx].latencies.toArray()))
+                        .sorted()
+                        .toArray();
+                long errorCount = all.stream().mapToLong(w -> w[idx].errors).sum();
+                results.add(new Result(label, mix.get(s).scenario().name(), concurrency, latencies.length, errorCount,
+                        latencies.length / seconds,
+                        percentileMs(latencies, 0.50), percentileMs(latencies, 0.99),
+                        latencies.length == 0 ? 0 : latencies[latencies.length - 1] / 1e6));
+            }
+            return results;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private static int pick(int[] cumulative, int r) {
+        for (int i = 0; i < cumulative.length; i++) {
+            if (r < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    static double percentileMs(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int idx = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(idx, sorted.length - 1))] / 1e6;
+    }
+
+    static HttpRequest uploadRequest(String baseUrl, String token, byte[] payload) {
+        String boundary = "----bench" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream(payload.length + 512);
+        writePart(body, boundary, "title", null, "bench upload".getBytes(StandardCharsets.UTF_8));
+        writePart(body, boundary, "videoFile", "bench.mp4", payload);
+        body.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.UTF_8));
+
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/videos"))
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .header("Cookie", "AccessToken=" + token)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+    }
+
+    private static void writePart(ByteArrayOutputStream body, String boundary, String name,
+                                  String filename, byte[] content) {
+        StringBuilder head = new StringBuilder("--").append(boundary).append("\r\n")
+                .append("Content-Disposition: form-data; name=\"").append(name).append('"');
+        if (filename != null) {
+            head.append("; filename=\"").append(filename).append("\"\r\nContent-Type: video/mp4");
+        }
+        head.append("\r\n\r\n");
+        body.writeBytes(head.toString().getBytes(StandardCharsets.UTF_8));
+        body.writeBytes(content);
+        body.writeBytes("\r\n".getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** 시나리오 하나에 대한 워커별 측정값 */
+    private static final class Samples {
+        private final LongBuffer latencies = new LongBuffer();
+        private long errors;
+    }
+
+    /** 박싱 없이 지연 시간을 모으는 가변 배열 */
+    private static final class LongBuffer {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long v) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = v;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
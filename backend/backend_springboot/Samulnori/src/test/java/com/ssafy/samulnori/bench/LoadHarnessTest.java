@@ -0,0 +1,245 @@
+package com.ssafy.samulnori.bench;
+
+import com.ssafy.samulnori.model.entity.Comment;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.model.repository.CommentRepository;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import com.ssafy.samulnori.util.JwtUtil;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 엔드투엔드 부하 테스트 하니스 (mvn -Ploadtest test)
+ * - 내장 H2(MySQL 모드) + 프로세스 내 S3 스텁 위에서 실제 컨트롤러/필터/서비스를 그대로 호출
+ * - 피드 / 상세 / 좋아요 토글 / 댓글 작성 / 업로드를 비중대로 섞어 실행
+ * - 엔드포인트별 처리량, p50/p99/max, 요청당 DB 쿼리 수를 target/load-report.csv 로 출력
+ *
+ * 설정 (system property): load.users (200), load.videos (500), load.commentsPerVideo (4),
+ * load.concurrency (32), load.warmup (5s), load.duration (20s), load.maxErrorRate (0.01)
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+@AutoConfigureObservability
+class LoadHarnessTest {
+
+    private static final int CALIBRATION_REQUESTS = 20;
+
+    private static S3StubServer s3;
+
+    @DynamicPropertySource
+    static void s3Properties(DynamicPropertyRegistry registry) throws IOException {
+        s3 = new S3StubServer();
+        registry.add("cloud.aws.s3.endpoint", s3::endpoint);
+    }
+
+    @AfterAll
+    static void stopS3() {
+        s3.close();
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Value("${S3_BUCKET_NAME}")
+    private String bucket;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void mixedWorkload() throws Exception {
+        int users = Integer.getInteger("load.users", 200);
+        int videos = Integer.getInteger("load.videos", 500);
+        int commentsPerVideo = Integer.getInteger("load.commentsPerVideo", 4);
+        int concurrency = Integer.getInteger("load.concurrency", 32);
+        Duration warmup = Duration.parse("PT" + System.getProperty("load.warmup", "5s"));
+        Duration duration = Duration.parse("PT" + System.getProperty("load.duration", "20s"));
+        double maxErrorRate = Double.parseDouble(System.getProperty("load.maxErrorRate", "0.01"));
+
+        List<UserEntity> seededUsers = seed(users, videos, commentsPerVideo);
+        List<Long> videoIds = videoRepository.findAll().stream().map(Video::getId).toList();
+        List<String> tokens = seededUsers.stream()
+                .map(u -> jwtUtil.createAccessToken(String.valueOf(u.getId()), u.getLoginName(), "ROLE_USER"))
+                .toList();
+
+        String baseUrl = "http://localhost:" + port;
+        byte[] uploadPayload = new byte[256 * 1024];
+        ThreadLocalRandom.current().nextBytes(uploadPayload);
+
+        List<LoadDriver.Weighted> mix = List.of(
+                new LoadDriver.Weighted(new LoadDriver.Scenario("feed", concurrency,
+                        () -> HttpRequest.newBuilder(URI.create(baseUrl + "/videos?sortBy=latest")).GET().build()), 40),
+                new LoadDriver.Weighted(new LoadDriver.Scenario("detail", concurrency,
+                        () -> HttpRequest.newBuilder(URI.create(baseUrl + "/videos/" + any(videoIds))).GET().build()), 30),
+                new LoadDriver.Weighted(new LoadDriver.Scenario("like", concurrency,
+                        () -> HttpRequest.newBuilder(URI.create(baseUrl + "/videos/" + any(videoIds) + "/likes"))
+                                .header("Cookie", "AccessToken=" + any(tokens))
+                                .POST(HttpRequest.BodyPublishers.noBody())
+                                .build()), 15),
+                new LoadDriver.Weighted(new LoadDriver.Scenario("comment", concurrency,
+                        () -> HttpRequest.newBuilder(URI.create(baseUrl + "/videos/" + any(videoIds) + "/comments"))
+                                .header("Cookie", "AccessToken=" + any(tokens))
+                                .header("Content-Type", "application/json")
+                                .POST(HttpRequest.BodyPublishers.ofString("{\"content\":\"부하 테스트 댓글\"}"))
+                                .build()), 10),
+                new LoadDriver.Weighted(new LoadDriver.Scenario("upload", concurrency,
+                        () -> LoadDriver.uploadRequest(baseUrl, any(tokens), uploadPayload)), 5)
+        );
+
+        // 1) 순차 보정 구간: 동시 요청이 없을 때 엔드포인트별 요청당 쿼리 수 측정
+        Map<String, Double> queriesPerRequest = calibrateQueries(mix);
+
+        // 2) 혼합 부하 측정
+        List<LoadDriver.Result> results = LoadDriver.runMix(client, "loadtest", mix, concurrency, warmup, duration);
+
+        List<String> lines = new ArrayList<>();
+        lines.add(LoadDriver.Result.CSV_HEADER + ",queries_per_req");
+        for (LoadDriver.Result r : results) {
+            lines.add(r.toCsv() + String.format(Locale.ROOT, ",%.1f", queriesPerRequest.get(r.scenario())));
+        }
+        Path report = Path.of("target", "load-report.csv");
+        Files.createDirectories(report.getParent());
+        Files.write(report, lines, StandardCharsets.UTF_8);
+        lines.forEach(System.out::println);
+        System.out.printf("s3 stub: %d puts, %d gets%n", s3.getPutCount(), s3.getGetCount());
+
+        // 3) 관리 포트의 Prometheus 스크레이프 결과도 함께 남겨 서버 측 분위수와 비교
+        String scrape = client.send(HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + managementPort + "/actuator/prometheus")).GET().build(),
+                HttpResponse.BodyHandlers.ofString()).body();
+        Files.writeString(Path.of("target", "load-metrics.prom"), scrape, StandardCharsets.UTF_8);
+        assertThat(scrape).contains("http_server_requests_seconds_bucket",
+                "spring_data_repository_invocations_seconds_bucket",
+                "hikaricp_connections_acquire_seconds_bucket",
+                "storage_s3_requests_seconds_bucket",
+                "bulkhead_saturation",
+                "application_first_request_time_seconds");
+
+        long total = results.stream().mapToLong(LoadDriver.Result::requests).sum();
+        long errors = results.stream().mapToLong(LoadDriver.Result::errors).sum();
+        assertThat(results).allSatisfy(r -> assertThat(r.requests()).isPositive());
+        assertThat((double) errors / total).isLessThanOrEqualTo(maxErrorRate);
+    }
+
+    private List<UserEntity> seed(int users, int videos, int commentsPerVideo) {
+        String bucketUrl = s3.endpoint() + "/" + bucket + "/";
+        byte[] media = new byte[4 * 1024];
+
+        List<UserEntity> seededUsers = new ArrayList<>(users);
+        for (int i = 1; i <= users; i++) {
+            String key = "profile-images/seed-" + i + ".jpg";
+            s3.putObject(bucket, key, media, "image/jpeg");
+            seededUsers.add(UserEntity.builder()
+                    .email("load" + i + "@samulnori.test")
+                    .nickname("load" + i)
+                    .loginName("load" + i)
+                    .profileImg(bucketUrl + key)
+                    .build());
+        }
+        seededUsers = userRepository.saveAll(seededUsers);
+
+        List<Video> seededVideos = new ArrayList<>(videos);
+        for (int i = 1; i <= videos; i++) {
+            String videoKey = "videos/seed/" + i + ".mp4";
+            String thumbnailKey = "thumbnails/seed/" + i + ".png";
+            s3.putObject(bucket, videoKey, media, "video/mp4");
+            s3.putObject(bucket, thumbnailKey, media, "image/png");
+            seededVideos.add(Video.builder()
+                    .user(seededUsers.get(i % users))
+                    .title("seed video " + i)
+                    .description("load test seed " + i)
+                    .videoUrl(bucketUrl + videoKey)
+                    .thumbnailUrl(bucketUrl + thumbnailKey)
+                    .runtime(60)
+                    .build());
+        }
+        seededVideos = videoRepository.saveAll(seededVideos);
+
+        List<Comment> comments = new ArrayList<>(videos * commentsPerVideo);
+        for (Video video : seededVideos) {
+            for (int c = 0; c < commentsPerVideo; c++) {
+                comments.add(Comment.builder()
+                        .user(seededUsers.get((int) ((video.getId() + c) % users)))
+                        .video(video)
+                        .content("seed comment " + c)
+                        .build());
+            }
+        }
+        commentRepository.saveAll(comments);
+        return seededUsers;
+    }
+
+    private Map<String, Double> calibrateQueries(List<LoadDriver.Weighted> mix) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        Map<String, Double> perRequest = new LinkedHashMap<>();
+        for (LoadDriver.Weighted w : mix) {
+            long before = statistics.getPrepareStatementCount();
+            for (int i = 0; i < CALIBRATION_REQUESTS; i++) {
+                HttpResponse<Void> response = client.send(w.scenario().request().get(),
+                        HttpResponse.BodyHandlers.discarding());
+                assertThat(response.statusCode()).as(w.scenario().name()).isLessThan(400);
+            }
+            long after = statistics.getPrepareStatementCount();
+            perRequest.put(w.scenario().name(), (after - before) / (double) CALIBRATION_REQUESTS);
+        }
+        return perRequest;
+    }
+
+    private static <T> T any(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+}
@@ -0,0 +1,324 @@
+package com.ssafy.samulnori.bench;
+
+import com.ssafy.samulnori.model.entity.Comment;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.model.repository.CommentLikeRepository;
+import com.ssafy.samulnori.model.repository.CommentRepository;
+import com.ssafy.samulnori.model.repository.FollowRepository;
+import com.ssafy.samulnori.model.repository.SocialAccountRepository;
+import com.ssafy.samulnori.model.repository.TokenRepository;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import com.ssafy.samulnori.model.repository.VideoLikeRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Repository 쿼리 규모 벤치마크 (mvn -Pscaletest test -Ddataset.scale=10k|1m|10m)
+ * - DatasetGenerator 로 데이터를 적재한 뒤 각 Repository 메서드를 대표 인자(인기/보통 사용자·영상)로 실행
+ * - 실행된 SQL 을 그대로 EXPLAIN 해서 전체 테이블 스캔(MySQL type=ALL, H2 tableScan)을 찾아냄
+ * - 의도된 스캔(부분 일치 검색 등)은 사유와 함께 허용, 그 외 스캔이 있으면 실패
+ * - 결과: target/query-report-{scale}.csv
+ *
+ * 기본은 내장 H2. 1m/10m 은 MySQL 에서 실행 권장:
+ * -Dspring.datasource.url=jdbc:mysql://.../scale?rewriteBatchedStatements=true
+ * -Dspring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect
+ * (ddl-auto=create-drop 이므로 전용 스키마 사용)
+ *
+ * JpaRepository 기본 CRUD(id 기반)는 제외.
+ */
+@Tag("scale")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("loadtest")
+@Import(RepositoryQueryBenchmarkTest.CaptureConfig.class)
+class RepositoryQueryBenchmarkTest {
+
+    private static final Pattern H2_TABLE_SCAN = Pattern.compile("(\\w+)\\.tableScan");
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        static BeanPostProcessor sqlCapturePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource ds ? SqlCapture.wrap(ds) : bean;
+                }
+            };
+        }
+    }
+
+    /** 측정 대상 쿼리. fullScanReason 이 있으면 전체 스캔을 허용 */
+    private record QueryCase(String name, String fullScanReason, Runnable call) {
+    }
+
+    private record Measurement(String name, int statements, double medianMs, double p95Ms,
+                               Set<String> fullScans, String fullScanReason) {
+
+        boolean flagged() {
+            return !fullScans.isEmpty() && fullScanReason == null;
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private TransactionTemplate tx;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private VideoLikeRepository videoLikeRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private TokenRepository tokenRepository;
+
+    @Autowired
+    private SocialAccountRepository socialAccountRepository;
+
+    @Test
+    void repositoryQueries() throws Exception {
+        String scale = System.getProperty("dataset.scale", "10k");
+        int iterations = Integer.getInteger("dataset.iterations", 10);
+        int maxRows = Integer.getInteger("dataset.maxRows", 1_000);
+
+        long start = System.nanoTime();
+        DatasetGenerator.Summary summary = new DatasetGenerator(jdbc)
+                .generate(DatasetGenerator.Spec.of(scale).withOverrides());
+        System.out.printf("dataset %s loaded in %.1fs: %s%n", scale, (System.nanoTime() - start) / 1e9, summary);
+
+        List<Measurement> results = new ArrayList<>();
+        for (QueryCase c : catalog(summary)) {
+            results.add(measure(c, iterations, maxRows));
+        }
+
+        List<String> lines = new ArrayList<>();
+        lines.add("query,statements,median_ms,p95_ms,full_scans,allowed_reason,flagged");
+        for (Measurement m : results) {
+            lines.add(String.format(Locale.ROOT, "%s,%d,%.3f,%.3f,%s,%s,%s", m.name(), m.statements(),
+                    m.medianMs(), m.p95Ms(), String.join(" ", m.fullScans()),
+                    m.fullScanReason() == null ? "" : m.fullScanReason(), m.flagged()));
+        }
+        Path report = Path.of("target", "query-report-" + scale + ".csv");
+        Files.createDirectories(report.getParent());
+        Files.write(report, lines, StandardCharsets.UTF_8);
+        lines.forEach(System.out::println);
+
+        assertThat(results).filteredOn(Measurement::flagged)
+                .as("예상하지 못한 전체 테이블 스캔")
+                .extracting(m -> m.name() + " " + m.fullScans())
+                .isEmpty();
+    }
+
+    private List<QueryCase> catalog(DatasetGenerator.Summary s) {
+        long hotUser = s.hotUserId();
+        long user = s.typicalUserId();
+        long hotVideo = s.hotVideoId();
+        long video = s.typicalVideoId();
+        long thread = s.threadParentId();
+
+        Map<String, Object> like = jdbc.queryForMap("SELECT user_id, video_id FROM likes WHERE id = 1");
+        Map<String, Object> follow = jdbc.queryForMap("SELECT follower_id, followee_id FROM user_follow WHERE id = 1");
+        Map<String, Object> commentLike = jdbc.queryForMap("SELECT user_id, comment_id FROM comment_likes WHERE id = 1");
+        String refreshToken = jdbc.queryForObject("SELECT refresh_token FROM tokens WHERE id = 1", String.class);
+        List<Long> followees = jdbc.queryForList(
+                "SELECT followee_id FROM user_follow WHERE follower_id = ?", Long.class, user);
+        long likeUser = ((Number) like.get("user_id")).longValue();
+        long likeVideo = ((Number) like.get("video_id")).longValue();
+        long follower = ((Number) follow.get("follower_id")).longValue();
+        long followee = ((Number) follow.get("followee_id")).longValue();
+        long commentLikeUser = ((Number) commentLike.get("user_id")).longValue();
+        long likedComment = ((Number) commentLike.get("comment_id")).longValue();
+
+        return List.of(
+                // VideoRepository
+                new QueryCase("video.findByUser(hot)", null,
+                        () -> videoRepository.findByUser(ref(UserEntity.class, hotUser))),
+                new QueryCase("video.findByUserIdOrderByIdDesc(first page)", null,
+                        () -> videoRepository.findByUserIdOrderByIdDesc(hotUser, Limit.of(25))),
+                new QueryCase("video.countByUserId", null, () -> videoRepository.countByUserId(hotUser)),
+                new QueryCase("video.findByTitleOrDescriptionContaining", "부분 일치 검색(LIKE '%kw%')은 B-tree 인덱스 불가",
+                        () -> videoRepository.findByTitleContainingIgnoreCaseOrDescriptionContainingIgnoreCase("합주 #12", "합주 #12")),
+                new QueryCase("video.findAllByOrderByUpdatedAtDesc", null,
+                        () -> videoRepository.findAllByOrderByUpdatedAtDesc()),
+                new QueryCase("video.findAllByOrderByLikeCntDesc", null,
+                        () -> videoRepository.findAllByOrderByLikeCntDesc()),
+                new QueryCase("video.findByUserIdIn(followees)", null,
+                        () -> videoRepository.findByUserIdIn(followees.isEmpty() ? List.of(hotUser) : followees)),
+                new QueryCase("video.addViewCnt", null, () -> videoRepository.addViewCnt(hotVideo, 1)),
+
+                // UserRepository
+                new QueryCase("user.findByEmail", null, () -> userRepository.findByEmail("user" + user + "@samulnori.test")),
+                new QueryCase("user.findByNickname", null, () -> userRepository.findByNickname("nick" + user)),
+                new QueryCase("user.findByLoginName", null, () -> userRepository.findByLoginName("login" + user)),
+                new QueryCase("user.findIdsByNicknameContaining", "부분 일치 검색(LIKE '%kw%')은 B-tree 인덱스 불가",
+                        () -> userRepository.findIdsByNicknameContaining("ick12")),
+                new QueryCase("user.findCardsByIdIn", null,
+                        () -> userRepository.findCardsByIdIn(followees.isEmpty() ? List.of(hotUser) : followees)),
+
+                // FollowRepository
+                new QueryCase("follow.existsByFollowerIdAndFolloweeId", null,
+                        () -> followRepository.existsByFollowerIdAndFolloweeId(follower, followee)),
+                new QueryCase("follow.deleteByFollowerIdAndFolloweeId", null,
+                        () -> followRepository.deleteByFollowerIdAndFolloweeId(follower, followee)),
+                new QueryCase("follow.findFollowerIdsByFolloweeId(hot)", null,
+                        () -> followRepository.findFollowerIdsByFolloweeId(hotUser)),
+                new QueryCase("follow.findFolloweeIdsByFollowerId", null,
+                        () -> followRepository.findFolloweeIdsByFollowerId(user)),
+                new QueryCase("follow.incrementFollowerCnt", null, () -> followRepository.incrementFollowerCnt(user)),
+                new QueryCase("follow.decrementFollowerCnt", null, () -> followRepository.decrementFollowerCnt(user)),
+
+                // VideoLikeRepository
+                new QueryCase("like.findByUserAndVideo", null,
+                        () -> videoLikeRepository.findByUserAndVideo(ref(UserEntity.class, likeUser), ref(Video.class, likeVideo))),
+                new QueryCase("like.countByVideoAndIsLikedTrue(hot)", null,
+                        () -> videoLikeRepository.countByVideoAndIsLikedTrue(ref(Video.class, hotVideo))),
+                new QueryCase("like.existsByUserIdAndVideoIdAndIsLikedTrue", null,
+                        () -> videoLikeRepository.existsByUserIdAndVideoIdAndIsLikedTrue(likeUser, likeVideo)),
+
+                // CommentRepository
+                new QueryCase("comment.findParentsByVideo(hot)", null,
+                        () -> commentRepository.findByVideoAndParentCommentIsNullOrderByCreatedAtDesc(ref(Video.class, hotVideo))),
+                new QueryCase("comment.findParentsByVideo", null,
+                        () -> commentRepository.findByVideoAndParentCommentIsNullOrderByCreatedAtDesc(ref(Video.class, video))),
+                new QueryCase("comment.findByParentComment(hot)", null,
+                        () -> commentRepository.findByParentCommentOrderByCreatedAtAsc(ref(Comment.class, thread))),
+
+                // CommentLikeRepository
+                new QueryCase("commentLike.findByUserAndComment", null,
+                        () -> commentLikeRepository.findByUserAndComment(ref(UserEntity.class, commentLikeUser), ref(Comment.class, likedComment))),
+                new QueryCase("commentLike.countByCommentAndIsLikedTrue(hot)", null,
+                        () -> commentLikeRepository.countByCommentAndIsLikedTrue(ref(Comment.class, thread))),
+                new QueryCase("commentLike.findLikedParentCommentIds(hot)", null,
+                        () -> commentLikeRepository.findLikedParentCommentIds(user, hotVideo)),
+
+                // TokenRepository / SocialAccountRepository
+                new QueryCase("token.findByUser", null, () -> tokenRepository.findByUser(ref(UserEntity.class, 5L))),
+                new QueryCase("token.findByRefreshToken", "TEXT 컬럼이라 인덱스 불가, 토큰 재발급 시에만 호출",
+                        () -> tokenRepository.findByRefreshToken(refreshToken)),
+                new QueryCase("social.findByProviderAndProviderId", null,
+                        () -> socialAccountRepository.findByProviderAndProviderId(
+                                new String[]{"google", "kakao", "naver"}[(int) (user % 3)], "provider-" + user)),
+                new QueryCase("social.findByUserId", null, () -> socialAccountRepository.findByUserId(user))
+        );
+    }
+
+    private Measurement measure(QueryCase c, int iterations, int maxRows) {
+        // 워밍업
+        for (int i = 0; i < 2; i++) {
+            runRolledBack(c, maxRows);
+        }
+
+        List<SqlCapture.Captured> statements = List.of();
+        double[] millis = new double[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            List<SqlCapture.Captured> captured = runRolledBack(c, maxRows);
+            millis[i] = (System.nanoTime() - start) / 1e6;
+            if (i == 0) {
+                statements = captured;
+            }
+        }
+        Arrays.sort(millis);
+
+        Set<String> fullScans = new LinkedHashSet<>();
+        Set<String> explained = new LinkedHashSet<>();
+        for (SqlCapture.Captured statement : statements) {
+            if (explained.add(statement.sql())) {
+                fullScans.addAll(explainFullScans(statement));
+            }
+        }
+        return new Measurement(c.name(), statements.size(), millis[iterations / 2],
+                millis[Math.min(iterations - 1, (int) Math.ceil(iterations * 0.95) - 1)], fullScans, c.fullScanReason());
+    }
+
+    /** 트랜잭션 안에서 실행 후 롤백 (수정 쿼리도 데이터셋을 바꾸지 않도록) */
+    private List<SqlCapture.Captured> runRolledBack(QueryCase c, int maxRows) {
+        SqlCapture.start(maxRows);
+        try {
+            tx.executeWithoutResult(status -> {
+                c.call().run();
+                em.flush();
+                status.setRollbackOnly();
+            });
+        } finally {
+            return SqlCapture.stop();
+        }
+    }
+
+    /** EXPLAIN 결과에서 전체 스캔 테이블 추출 (MySQL: type=ALL, H2: tableScan) */
+    private Set<String> explainFullScans(SqlCapture.Captured statement) {
+        return jdbc.execute((ConnectionCallback<Set<String>>) con -> {
+            boolean h2 = "H2".equalsIgnoreCase(con.getMetaData().getDatabaseProductName());
+            Set<String> tables = new LinkedHashSet<>();
+            try (PreparedStatement ps = con.prepareStatement("EXPLAIN " + statement.sql())) {
+                statement.bind(ps);
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        if (h2) {
+                            Matcher m = H2_TABLE_SCAN.matcher(rs.getString(1));
+                            while (m.find()) {
+                                tables.add(m.group(1).toLowerCase(Locale.ROOT));
+                            }
+                        } else if ("ALL".equalsIgnoreCase(rs.getString("type"))) {
+                            tables.add(rs.getString("table"));
+                        }
+                    }
+                }
+            }
+            return tables;
+        });
+    }
+
+    private <T> T ref(Class<T> type, long id) {
+        return em.getReference(type, id);
+    }
+}
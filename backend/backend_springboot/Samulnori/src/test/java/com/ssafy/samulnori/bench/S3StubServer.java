@@ -0,0 +1,169 @@
+package com.ssafy.samulnori.bench;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트용 프로세스 내 S3 호환 스텁 (path-style: /{bucket}/{key})
+ * - PUT / GET / HEAD / DELETE 만 지원, 객체는 메모리에 보관
+ * - ETag 는 실제 S3 와 같이 본문 MD5 (SDK 가 업로드/다운로드 무결성 검사에 사용)
+ * - SDK 가 평문 HTTP 에서 쓰는 aws-chunked 서명 스트림을 풀어서 저장
+ */
+public class S3StubServer implements AutoCloseable {
+
+    private record StoredObject(byte[] data, String contentType, String etag) {
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Map<String, StoredObject> objects = new ConcurrentHashMap<>();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder gets = new LongAdder();
+
+    public S3StubServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        executor = Executors.newFixedThreadPool(32);
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /** 테스트 데이터 적재용 (HTTP 를 거치지 않음) */
+    public void putObject(String bucket, String key, byte[] data, String contentType) {
+        objects.put(bucket + "/" + key, new StoredObject(data, contentType, md5(data)));
+    }
+
+    public int getObjectCount() {
+        return objects.size();
+    }
+
+    public long getPutCount() {
+        return puts.sum();
+    }
+
+    public long getGetCount() {
+        return gets.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath().substring(1);
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    byte[] body = exchange.getRequestBody().readAllBytes();
+                    String sha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+                    if (sha != null && sha.startsWith("STREAMING-")) {
+                        body = decodeAwsChunked(body);
+                    }
+                    String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                    StoredObject object = new StoredObject(body, contentType, md5(body));
+                    objects.put(path, object);
+                    puts.increment();
+                    exchange.getResponseHeaders().set("ETag", '"' + object.etag() + '"');
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "GET", "HEAD" -> {
+                    StoredObject object = objects.get(path);
+                    if (object == null) {
+                        sendError(exchange, 404, "NoSuchKey");
+                        return;
+                    }
+                    gets.increment();
+                    exchange.getResponseHeaders().set("ETag", '"' + object.etag() + '"');
+                    exchange.getResponseHeaders().set("Content-Type",
+                            object.contentType() != null ? object.contentType() : "application/octet-stream");
+                    if ("HEAD".equals(exchange.getRequestMethod())) {
+                        exchange.getResponseHeaders().set("Content-Length", String.valueOf(object.data().length));
+                        exchange.sendResponseHeaders(200, -1);
+                        return;
+                    }
+                    exchange.sendResponseHeaders(200, object.data().length == 0 ? -1 : object.data().length);
+                    try (OutputStream out = exchange.getResponseBody()) {
+                        out.write(object.data());
+                    }
+                }
+                case "DELETE" -> {
+                    objects.remove(path);
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                default -> sendError(exchange, 501, "NotImplemented");
+            }
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, int status, String code) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?><Error><Code>" + code + "</Code></Error>")
+                .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * aws-chunked 본문 해제: "{hex-size};chunk-signature={sig}\r\n{data}\r\n" 반복, 크기 0 청크로 종료
+     */
+    static byte[] decodeAwsChunked(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length);
+        int pos = 0;
+        while (pos < body.length) {
+            int lineEnd = indexOfCrlf(body, pos);
+            if (lineEnd < 0) {
+                throw new IOException("malformed aws-chunked body");
+            }
+            String header = new String(body, pos, lineEnd - pos, StandardCharsets.US_ASCII);
+            int semi = header.indexOf(';');
+            int size = Integer.parseInt(semi < 0 ? header : header.substring(0, semi), 16);
+            pos = lineEnd + 2;
+            if (size == 0) {
+                break;
+            }
+            out.write(body, pos, size);
+            pos += size + 2;
+        }
+        return out.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] data, int from) {
+        for (int i = from; i < data.length - 1; i++) {
+            if (data[i] == '\r' && data[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static String md5(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
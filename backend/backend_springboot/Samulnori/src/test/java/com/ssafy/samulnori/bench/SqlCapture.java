@@ -0,0 +1,121 @@
+package com.ssafy.samulnori.bench;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 실행된 PreparedStatement 의 SQL 과 바인딩 값을 기록하는 DataSource 래퍼 (테스트 전용)
+ * - 기록된 바인딩은 같은 setXxx 호출로 다른 문장(EXPLAIN ...)에 재적용 가능
+ * - maxRows 를 지정하면 조회 결과 행 수를 제한 (전체 테이블을 돌려주는 쿼리를 대규모에서 실행할 때)
+ */
+public final class SqlCapture {
+
+    /** 실행된 문장 하나 */
+    public record Captured(String sql, List<Binding> bindings) {
+
+        public void bind(PreparedStatement target) throws SQLException {
+            for (Binding b : bindings) {
+                try {
+                    b.method().invoke(target, b.args());
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                } catch (InvocationTargetException e) {
+                    if (e.getCause() instanceof SQLException sql) {
+                        throw sql;
+                    }
+                    throw new IllegalStateException(e.getCause());
+                }
+            }
+        }
+    }
+
+    public record Binding(Method method, Object[] args) {
+    }
+
+    private static final class Session {
+        private final List<Captured> statements = new ArrayList<>();
+        private final int maxRows;
+
+        private Session(int maxRows) {
+            this.maxRows = maxRows;
+        }
+    }
+
+    private static final ThreadLocal<Session> CURRENT = new ThreadLocal<>();
+
+    private SqlCapture() {
+    }
+
+    public static DataSource wrap(DataSource target) {
+        return (DataSource) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof Connection connection) {
+                        return wrapConnection(connection);
+                    }
+                    return result;
+                });
+    }
+
+    /** 기록 시작 (maxRows <= 0 이면 제한 없음) */
+    public static void start(int maxRows) {
+        CURRENT.set(new Session(maxRows));
+    }
+
+    /** 기록 종료 후 실행된 문장 반환 */
+    public static List<Captured> stop() {
+        Session session = CURRENT.get();
+        CURRENT.remove();
+        return session == null ? List.of() : session.statements;
+    }
+
+    private static Connection wrapConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (method.getName().equals("prepareStatement") && result instanceof PreparedStatement ps) {
+                        return wrapStatement(ps, (String) args[0]);
+                    }
+                    return result;
+                });
+    }
+
+    private static PreparedStatement wrapStatement(PreparedStatement target, String sql) {
+        List<Binding> bindings = new ArrayList<>();
+        InvocationHandler handler = (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                bindings.add(new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                Session session = CURRENT.get();
+                if (session != null) {
+                    session.statements.add(new Captured(sql, List.copyOf(bindings)));
+                    if (session.maxRows > 0) {
+                        target.setMaxRows(session.maxRows);
+                    }
+                }
+            }
+            return invoke(target, method, args);
+        };
+        return (PreparedStatement) Proxy.newProxyInstance(SqlCapture.class.getClassLoader(),
+                new Class<?>[]{PreparedStatement.class}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
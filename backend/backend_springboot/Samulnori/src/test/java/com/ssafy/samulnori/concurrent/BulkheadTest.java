@@ -0,0 +1,55 @@
+package com.ssafy.samulnori.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BulkheadTest {
+
+    @Test
+    void rejectsWhenThreadsAndQueueAreFull() throws Exception {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofSeconds(5));
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            CompletableFuture<String> running = bulkhead.submit(() -> {
+                release.await();
+                return "a";
+            });
+            CompletableFuture<String> queued = bulkhead.submit(() -> "b");
+
+            // 스레드 1 + 대기열 1 이 찼으므로 세 번째는 즉시 거절
+            CompletableFuture<String> rejected = bulkhead.submit(() -> "c");
+            assertThatThrownBy(rejected::get).hasCauseInstanceOf(BulkheadException.class);
+            assertThat(bulkhead.getRejectedCount()).isEqualTo(1);
+
+            release.countDown();
+            assertThat(running.get()).isEqualTo("a");
+            assertThat(queued.get()).isEqualTo("b");
+        } finally {
+            bulkhead.shutdown();
+        }
+    }
+
+    @Test
+    void timesOutAndInterruptsSlowCall() {
+        Bulkhead bulkhead = new Bulkhead("test", 1, 1, Duration.ofMillis(50));
+        try {
+            CompletableFuture<String> slow = bulkhead.submit(() -> {
+                Thread.sleep(5_000);
+                return "late";
+            });
+            assertThatThrownBy(slow::get)
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(BulkheadException.class);
+            assertThat(bulkhead.getTimeoutCount()).isEqualTo(1);
+        } finally {
+            bulkhead.shutdown();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.samulnori.config;
+
+import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import com.ssafy.samulnori.model.dto.user.PageDTO;
+import com.ssafy.samulnori.model.dto.user.UserDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.assertj.core.api.Assertions.*;
+
+class NativeHintsConfigTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @BeforeEach
+    void setUp() {
+        new NativeHintsConfig.Hints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void dtos_andLombokBuilders_areRegisteredForBinding() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(VideoResponseDto.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(VideoResponseDto.VideoResponseDtoBuilder.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(PageDTO.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(UserDTO.class, "getNickname")).accepts(hints);
+    }
+
+    @Test
+    void jjwt_implementationAndServiceFiles_areRegistered() throws Exception {
+        Class<?> parserBuilder = Class.forName("io.jsonwebtoken.impl.DefaultJwtParserBuilder");
+        assertThat(RuntimeHintsPredicates.reflection().onConstructor(parserBuilder.getDeclaredConstructor())).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("META-INF/services/io.jsonwebtoken.io.Deserializer")).accepts(hints);
+    }
+
+    @Test
+    void awsSdk_endpointMetadataAndSigners_areRegistered() throws Exception {
+        assertThat(RuntimeHintsPredicates.resource().forResource("com/amazonaws/partitions/endpoints.json")).accepts(hints);
+        Class<?> signer = Class.forName("com.amazonaws.services.s3.internal.AWSS3V4Signer");
+        assertThat(RuntimeHintsPredicates.reflection().onConstructor(signer.getDeclaredConstructor())).accepts(hints);
+    }
+}
@@ -0,0 +1,263 @@
+package com.ssafy.samulnori.controller;
+
+import com.ssafy.samulnori.model.entity.Comment;
+import com.ssafy.samulnori.model.entity.Follow;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.model.repository.CommentRepository;
+import com.ssafy.samulnori.model.repository.FollowRepository;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import com.ssafy.samulnori.model.service.FeedResponseCache;
+import com.ssafy.samulnori.model.service.ProfilePageCache;
+import com.ssafy.samulnori.model.service.UserCardCache;
+import com.ssafy.samulnori.model.service.VideoDetailCache;
+import com.ssafy.samulnori.storage.BlobStore;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import com.ssafy.samulnori.util.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 주요 엔드포인트의 요청당 할당 바이트 상한 (고정 페이지 크기)
+ * - MockMvc 는 호출 스레드에서 필터 체인 + 컨트롤러 + 직렬화를 모두 실행하므로
+ *   ThreadMXBean.getThreadAllocatedBytes 로 요청 하나가 만든 가비지를 잴 수 있음
+ * - 내장 H2 도 같은 스레드에서 돌아 그 할당도 포함됨 (MySQL 드라이버보다 큼) → 절대값보다 회귀 감지용
+ * - 상한은 측정값의 약 1.25 배, 결과는 target/allocation-report.csv
+ * - 응답/상세/프로필/카드 캐시가 적중하는 경로와 별도로, 요청마다 캐시를 비운 "cache miss" 경로도 측정
+ *   상세 캐시는 전용 로더 스레드에서 로드하므로 miss 측정은 전체 스레드의 할당 합 (배경 스레드 할당도 일부 포함)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AllocationBudgetTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 100;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private FeedResponseCache feedResponseCache;
+
+    @Autowired
+    private VideoDetailCache videoDetailCache;
+
+    @Autowired
+    private ProfilePageCache profilePageCache;
+
+    @Autowired
+    private UserCardCache userCardCache;
+
+    @Autowired
+    private MediaUrlResolver mediaUrlResolver;
+
+    private final List<String> report = new ArrayList<>(List.of("endpoint,bytes_per_request,budget"));
+
+    private UserEntity viewer;
+    private Video video;
+    private Cookie accessToken;
+
+    @BeforeAll
+    void seed() {
+        List<UserEntity> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(UserEntity.builder()
+                    .email("alloc" + i + "@samulnori.test")
+                    .nickname("alloc" + i)
+                    .loginName("alloc" + i)
+                    .profileImg(blobStore.urlOf("profile-images/alloc-" + i + ".jpg"))
+                    .build());
+        }
+        users = userRepository.saveAll(users);
+        viewer = users.get(0);
+        followRepository.save(Follow.builder().follower(viewer).followee(users.get(1)).build());
+
+        // 피드 한 페이지 분량, 저장 URL 은 실제처럼 S3 URL (presigned URL 변환 경로 포함)
+        List<Video> videos = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            videos.add(Video.builder()
+                    .user(users.get(i % 2 + 1))
+                    .title("alloc video " + i)
+                    .description("allocation budget seed " + i)
+                    .videoUrl(blobStore.urlOf("videos/alloc-" + i + ".mp4"))
+                    .thumbnailUrl(blobStore.urlOf("thumbnails/alloc-" + i + ".png"))
+                    .runtime(60)
+                    .build());
+        }
+        videos = videoRepository.saveAll(videos);
+        video = videos.get(0);
+
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            comments.add(Comment.builder()
+                    .user(users.get(i % users.size()))
+                    .video(video)
+                    .content("alloc comment " + i)
+                    .build());
+        }
+        commentRepository.saveAll(comments);
+
+        accessToken = new Cookie("AccessToken",
+                jwtUtil.createAccessToken(String.valueOf(viewer.getId()), viewer.getLoginName(), "ROLE_USER"));
+    }
+
+    @AfterAll
+    void writeReport() throws Exception {
+        Path path = Path.of("target", "allocation-report.csv");
+        Files.createDirectories(path.getParent());
+        Files.write(path, report, StandardCharsets.UTF_8);
+        report.forEach(System.out::println);
+    }
+
+    @Test
+    void latestFeed() throws Exception {
+        assertBudget("GET /videos?sortBy=latest", get("/videos").param("sortBy", "latest"), 360_000);
+    }
+
+    @Test
+    void followingFeedWithJwt() throws Exception {
+        assertBudget("GET /videos/following", get("/videos/following").cookie(accessToken), 480_000);
+    }
+
+    @Test
+    void videoDetail() throws Exception {
+        assertBudget("GET /videos/{id}", get("/videos/" + video.getId()), 190_000);
+    }
+
+    @Test
+    void parentComments() throws Exception {
+        assertBudget("GET /videos/{id}/comments", get("/videos/" + video.getId() + "/comments"), 500_000);
+    }
+
+    @Test
+    void userProfile() throws Exception {
+        assertBudget("GET /users/{id}/profile", get("/users/" + video.getUser().getId() + "/profile"), 270_000);
+    }
+
+    @Test
+    void latestFeedCacheMiss() throws Exception {
+        assertColdBudget("GET /videos?sortBy=latest (cache miss)", get("/videos").param("sortBy", "latest"), 2_000_000);
+    }
+
+    @Test
+    void videoDetailCacheMiss() throws Exception {
+        assertColdBudget("GET /videos/{id} (cache miss)", get("/videos/" + video.getId()), 320_000);
+    }
+
+    @Test
+    void userProfileCacheMiss() throws Exception {
+        assertColdBudget("GET /users/{id}/profile (cache miss)",
+                get("/users/" + video.getUser().getId() + "/profile"), 1_120_000);
+    }
+
+    @Test
+    void toggleLike() throws Exception {
+        assertBudget("POST /videos/{id}/likes", post("/videos/" + video.getId() + "/likes").cookie(accessToken), 360_000);
+    }
+
+    private void assertBudget(String endpoint, RequestBuilder request, long budgetBytes) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        long threadId = Thread.currentThread().getId();
+        long before = THREADS.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            mockMvc.perform(request);
+        }
+        long perRequest = (THREADS.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+        report.add(String.format(Locale.ROOT, "%s,%d,%d", endpoint, perRequest, budgetBytes));
+
+        assertThat(perRequest).as("%s bytes allocated per request", endpoint).isLessThanOrEqualTo(budgetBytes);
+    }
+
+    // 요청마다 캐시를 비우고(측정 구간 밖) 전체 스레드의 할당 합을 잼
+    private void assertColdBudget(String endpoint, RequestBuilder request, long budgetBytes) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            invalidateCaches();
+            mockMvc.perform(request).andExpect(status().isOk());
+        }
+        long total = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            invalidateCaches();
+            Map<Long, Long> before = allocatedByThread();
+            mockMvc.perform(request);
+            Map<Long, Long> after = allocatedByThread();
+            for (Map.Entry<Long, Long> e : after.entrySet()) {
+                total += e.getValue() - before.getOrDefault(e.getKey(), 0L);
+            }
+        }
+        long perRequest = total / ITERATIONS;
+        report.add(String.format(Locale.ROOT, "%s,%d,%d", endpoint, perRequest, budgetBytes));
+
+        assertThat(perRequest).as("%s bytes allocated per request", endpoint).isLessThanOrEqualTo(budgetBytes);
+    }
+
+    private void invalidateCaches() {
+        feedResponseCache.getResponses().invalidateAll();
+        videoDetailCache.getDetails().synchronous().invalidateAll();
+        profilePageCache.getPages().invalidateAll();
+        userCardCache.getCards().invalidateAll();
+        mediaUrlResolver.getSignatureCache().invalidateAll();
+    }
+
+    private static Map<Long, Long> allocatedByThread() {
+        long[] ids = THREADS.getAllThreadIds();
+        long[] bytes = THREADS.getThreadAllocatedBytes(ids);
+        Map<Long, Long> allocated = new HashMap<>(ids.length * 2);
+        for (int i = 0; i < ids.length; i++) {
+            if (bytes[i] >= 0) {
+                allocated.put(ids[i], bytes[i]);
+            }
+        }
+        return allocated;
+    }
+}
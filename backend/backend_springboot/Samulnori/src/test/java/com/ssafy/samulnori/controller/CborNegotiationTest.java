@@ -0,0 +1,114 @@
+package com.ssafy.samulnori.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.samulnori.model.entity.Comment;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.model.repository.CommentRepository;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import com.ssafy.samulnori.model.service.VideoService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Accept: application/cbor 협상: 같은 스키마(JSON 트리와 동일), 더 작은 본문, 기본값은 JSON
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CborNegotiationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappingJackson2CborHttpMessageConverter cborConverter;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private UserEntity uploader;
+    private Video video;
+
+    @BeforeAll
+    void seed() {
+        uploader = userRepository.save(UserEntity.builder()
+                .email("cbor@samulnori.test").nickname("cbor").loginName("cbor").build());
+        video = videoRepository.save(Video.builder().user(uploader).title("cbor video")
+                .videoUrl("/files/videos/cbor.mp4").runtime(45).build());
+        commentRepository.save(Comment.builder().user(uploader).video(video).content("binary").build());
+    }
+
+    @AfterAll
+    void cleanUp() {
+        videoService.deleteVideo(video.getId(), uploader.getId());
+        userRepository.delete(uploader);
+    }
+
+    @Test
+    void cachedFeedAndCommentsMatchJsonSchema() throws Exception {
+        for (String uri : new String[]{"/videos?sortBy=latest", "/videos/" + video.getId(), "/videos/" + video.getId() + "/comments"}) {
+            MockHttpServletResponse json = fetch(uri, MediaType.APPLICATION_JSON);
+            MockHttpServletResponse cbor = fetch(uri, MediaType.APPLICATION_CBOR);
+
+            assertThat(cbor.getContentType()).startsWith(MediaType.APPLICATION_CBOR_VALUE);
+            JsonNode decoded = cborConverter.getObjectMapper().readTree(cbor.getContentAsByteArray());
+            assertThat(decoded).isEqualTo(objectMapper.readTree(json.getContentAsByteArray()));
+            assertThat(cbor.getContentAsByteArray().length).isLessThan(json.getContentAsByteArray().length);
+        }
+    }
+
+    @Test
+    void jsonStaysDefault() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/videos")).andReturn().getResponse();
+        assertThat(response.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+
+        MockHttpServletResponse wildcard = fetch("/videos/" + video.getId() + "/comments", MediaType.ALL);
+        assertThat(wildcard.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    @Test
+    void malformedAcceptFallsBackToJson() throws Exception {
+        for (String uri : new String[]{"/videos?sortBy=latest", "/videos/" + video.getId() + "/comments"}) {
+            MockHttpServletResponse response = mockMvc.perform(get(uri).header(HttpHeaders.ACCEPT, "application/"))
+                    .andReturn().getResponse();
+            assertThat(response.getStatus()).as(uri).isEqualTo(200);
+            assertThat(response.getContentType()).as(uri).startsWith(MediaType.APPLICATION_JSON_VALUE);
+        }
+    }
+
+    private MockHttpServletResponse fetch(String uri, MediaType accept) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get(uri).accept(accept)).andReturn().getResponse();
+        assertThat(response.getStatus()).isEqualTo(200);
+        return response;
+    }
+}
@@ -0,0 +1,182 @@
+package com.ssafy.samulnori.controller;
+
+import com.ssafy.samulnori.model.dto.CommentRequestDto;
+import com.ssafy.samulnori.model.dto.user.MyInfoRequestDTO;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import com.ssafy.samulnori.model.service.CommentService;
+import com.ssafy.samulnori.model.service.UserService;
+import com.ssafy.samulnori.model.service.VideoDetailCache;
+import com.ssafy.samulnori.model.service.VideoService;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 영상 상세 / 댓글 목록 / 프로필의 조건부 GET: 같은 버전이면 304, 변경 후에는 새 ETag 로 200
+ * JSON 과 CBOR 표현은 서로의 ETag 로 재검증되지 않음
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private VideoDetailCache videoDetailCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    private UserEntity uploader;
+    private UserEntity commenter;
+    private Video video;
+    private Video commentedVideo;
+
+    @BeforeAll
+    void seed() {
+        uploader = userRepository.save(UserEntity.builder()
+                .email("etag@samulnori.test").nickname("etag").loginName("etag").build());
+        video = videoRepository.save(Video.builder().user(uploader).title("etag video")
+                .videoUrl("/files/videos/etag.mp4").runtime(30).build());
+        commenter = userRepository.save(UserEntity.builder()
+                .email("etag-commenter@samulnori.test").nickname("commenter").loginName("etag-commenter").build());
+        commentedVideo = videoRepository.save(Video.builder().user(uploader).title("etag commented video")
+                .videoUrl("/files/videos/etag-commented.mp4").runtime(30).build());
+    }
+
+    @AfterAll
+    void cleanUp() {
+        videoService.deleteVideo(video.getId(), uploader.getId());
+        videoService.deleteVideo(commentedVideo.getId(), uploader.getId());
+        userRepository.delete(commenter);
+        userRepository.delete(uploader);
+    }
+
+    @Test
+    void videoAndCommentsRevalidateUntilCommentAdded() throws Exception {
+        String detail = "/videos/" + video.getId();
+        String comments = detail + "/comments";
+        String detailTag = assertRevalidates(detail);
+        String commentsTag = assertRevalidates(comments);
+
+        CommentRequestDto request = new CommentRequestDto();
+        request.setContent("first");
+        commentService.createComment(uploader.getId(), video.getId(), request);
+
+        // 댓글 목록 버전은 바로 바뀜
+        assertThat(fetch(comments, commentsTag).getStatus()).isEqualTo(200);
+
+        // 상세의 ETag 는 본문(상세 캐시)을 따라감: 캐시가 갱신되기 전에는 304, 갱신 후에는 새 댓글 수와 새 ETag
+        assertThat(fetch(detail, detailTag).getStatus()).isEqualTo(304);
+        videoDetailCache.invalidate(video.getId());
+        MockHttpServletResponse changed = fetch(detail, detailTag);
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getContentAsString()).contains("\"commentCnt\":1");
+    }
+
+    @Test
+    void commentsRevalidateUntilCommenterChanges() throws Exception {
+        CommentRequestDto request = new CommentRequestDto();
+        request.setContent("hi");
+        commentService.createComment(commenter.getId(), commentedVideo.getId(), request);
+        String comments = "/videos/" + commentedVideo.getId() + "/comments";
+        String tag = assertRevalidates(comments);
+
+        // 댓글은 그대로, 작성자 닉네임만 변경
+        userService.updateMyInfo(commenter.getId(), MyInfoRequestDTO.builder()
+                .email("etag-commenter@samulnori.test").nickname("renamed").build());
+
+        MockHttpServletResponse changed = fetch(comments, tag);
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotEqualTo(tag);
+        assertThat(changed.getContentAsString()).contains("renamed");
+    }
+
+    @Test
+    void profileRevalidatesUntilProfileChanges() throws Exception {
+        String profile = "/users/" + uploader.getId() + "/profile";
+        String tag = assertRevalidates(profile);
+
+        userService.updateMyInfo(uploader.getId(), MyInfoRequestDTO.builder()
+                .email("etag@samulnori.test").nickname("etag").introduce("hello").build());
+
+        MockHttpServletResponse changed = fetch(profile, tag);
+        assertThat(changed.getStatus()).isEqualTo(200);
+        assertThat(changed.getHeader(HttpHeaders.ETAG)).isNotEqualTo(tag);
+    }
+
+    @Test
+    void cborTagDoesNotRevalidateJson() throws Exception {
+        for (String uri : new String[]{"/videos/" + video.getId(), "/videos/" + video.getId() + "/comments",
+                "/users/" + uploader.getId() + "/profile"}) {
+            MockHttpServletResponse cbor = mockMvc.perform(get(uri).accept(MediaType.APPLICATION_CBOR)).andReturn().getResponse();
+            assertThat(cbor.getHeader(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+            String cborTag = cbor.getHeader(HttpHeaders.ETAG);
+
+            MockHttpServletResponse json = mockMvc.perform(get(uri).accept(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.IF_NONE_MATCH, cborTag)).andReturn().getResponse();
+            assertThat(json.getStatus()).isEqualTo(200);
+            assertThat(json.getContentType()).startsWith(MediaType.APPLICATION_JSON_VALUE);
+            assertThat(json.getHeader(HttpHeaders.ETAG)).isNotEqualTo(cborTag);
+
+            MockHttpServletResponse revalidated = mockMvc.perform(get(uri).accept(MediaType.APPLICATION_CBOR)
+                    .header(HttpHeaders.IF_NONE_MATCH, cborTag)).andReturn().getResponse();
+            assertThat(revalidated.getStatus()).isEqualTo(304);
+            assertThat(revalidated.getHeader(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+        }
+    }
+
+    // 200 + 약한 ETag 하나, 같은 ETag 로 다시 요청하면 본문 없는 304
+    private String assertRevalidates(String uri) throws Exception {
+        MockHttpServletResponse first = fetch(uri, null);
+        assertThat(first.getStatus()).isEqualTo(200);
+        List<String> tags = first.getHeaders(HttpHeaders.ETAG);
+        assertThat(tags).hasSize(1);
+        assertThat(tags.get(0)).startsWith("W/\"");
+
+        MockHttpServletResponse second = fetch(uri, tags.get(0));
+        assertThat(second.getStatus()).isEqualTo(304);
+        assertThat(second.getContentAsByteArray()).isEmpty();
+        return tags.get(0);
+    }
+
+    private MockHttpServletResponse fetch(String uri, String ifNoneMatch) throws Exception {
+        var request = get(uri);
+        if (ifNoneMatch != null) {
+            request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        return mockMvc.perform(request).andReturn().getResponse();
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.samulnori.controller;
+
+import com.ssafy.samulnori.model.service.FeedResponseCache;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * 비로그인 피드 응답 캐시: 로드 1 회, ETag/304, 미리 압축한 gzip 본문, 캐시 헤더
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+class FeedResponseCacheTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private FeedResponseCache feedResponseCache;
+
+    @Test
+    void anonymousFeedIsServedFromSerializedBytes() throws Exception {
+        feedResponseCache.getResponses().invalidateAll();
+        long loads = feedResponseCache.getResponses().stats().loadCount();
+
+        MockHttpServletResponse plain = mockMvc.perform(get("/videos").param("sortBy", "popular")).andReturn().getResponse();
+        MockHttpServletResponse gzipped = mockMvc.perform(get("/videos").param("sortBy", "popular")
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate")).andReturn().getResponse();
+
+        assertThat(feedResponseCache.getResponses().stats().loadCount() - loads).isEqualTo(1);
+        assertThat(plain.getStatus()).isEqualTo(200);
+        assertThat(plain.getHeader(HttpHeaders.ETAG)).startsWith("W/\"");
+        assertThat(plain.getHeader(HttpHeaders.CACHE_CONTROL)).contains("public", "stale-while-revalidate=");
+        assertThat(plain.getHeader(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeader(HttpHeaders.ETAG)).isEqualTo(plain.getHeader(HttpHeaders.ETAG));
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            assertThat(in.readAllBytes()).isEqualTo(plain.getContentAsByteArray());
+        }
+
+        MockHttpServletResponse revalidated = mockMvc.perform(get("/videos").param("sortBy", "popular")
+                .header(HttpHeaders.IF_NONE_MATCH, plain.getHeader(HttpHeaders.ETAG))).andReturn().getResponse();
+        assertThat(revalidated.getStatus()).isEqualTo(304);
+        assertThat(revalidated.getContentAsByteArray()).isEmpty();
+    }
+}
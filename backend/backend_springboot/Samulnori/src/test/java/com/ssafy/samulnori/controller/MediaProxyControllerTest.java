@@ -0,0 +1,82 @@
+package com.ssafy.samulnori.controller;
+
+import com.ssafy.samulnori.storage.LocalBlobStore;
+import com.ssafy.samulnori.storage.MediaCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MediaProxyControllerTest {
+
+    @TempDir
+    Path dir;
+
+    private final byte[] body = new byte[20];
+    private MediaProxyController controller;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        for (int i = 0; i < body.length; i++) {
+            body[i] = (byte) i;
+        }
+        LocalBlobStore origin = new LocalBlobStore(dir.resolve("origin").toString(), "/files");
+        Files.createDirectories(origin.resolve("videos/big.mp4").getParent());
+        Files.write(origin.resolve("videos/big.mp4"), body);
+
+        // 캐시 용량(10 바이트)보다 큰 객체 → 원본에서 바로 전송하는 경로
+        MediaCache cache = new MediaCache(origin);
+        ReflectionTestUtils.setField(cache, "dir", dir.resolve("cache").toString());
+        ReflectionTestUtils.setField(cache, "maxBytes", 10L);
+        ReflectionTestUtils.invokeMethod(cache, "init");
+
+        controller = new MediaProxyController(cache, origin);
+    }
+
+    @Test
+    void serve_oversizedObject_honoursRange() throws IOException {
+        MockHttpServletResponse response = serve("bytes=5-9");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 5-9/20");
+        assertThat(response.getContentLengthLong()).isEqualTo(5);
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(body, 5, 10));
+    }
+
+    @Test
+    void serve_oversizedObject_withoutRange_sendsWholeBodyWithLength() throws IOException {
+        MockHttpServletResponse response = serve(null);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLengthLong()).isEqualTo(20);
+        assertThat(response.getContentAsByteArray()).isEqualTo(body);
+    }
+
+    @Test
+    void serve_oversizedObject_unsatisfiableRange_is416() throws IOException {
+        MockHttpServletResponse response = serve("bytes=30-");
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */20");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    private MockHttpServletResponse serve(String range) throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/media/videos/big.mp4");
+        if (range != null) {
+            request.addHeader("Range", range);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        controller.serve(request, response);
+        return response;
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssafy.samulnori.invalidation;
+
+import com.ssafy.samulnori.model.repository.CacheChangeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 두 인스턴스(A, B)가 같은 DB 의 변경 로그를 공유하는 상황
+ * 폴링 주기는 길게 두고 poll() 을 직접 호출
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("loadtest")
+class ChangeLogInvalidationTransportTest {
+
+    private static final Duration MANUAL = Duration.ofHours(1);
+
+    @Autowired
+    private CacheChangeRepository cacheChangeRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private ChangeLogInvalidationTransport nodeA;
+    private ChangeLogInvalidationTransport nodeB;
+    private final List<Long> videosInvalidatedOnB = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new ChangeLogInvalidationTransport(cacheChangeRepository, MANUAL, Duration.ofSeconds(30), Duration.ofMinutes(10));
+        nodeB = new ChangeLogInvalidationTransport(cacheChangeRepository, MANUAL, Duration.ofSeconds(30), Duration.ofMinutes(10));
+        nodeA.start(invalidation -> { });
+
+        InvalidationBus busB = new InvalidationBus(nodeB);
+        busB.subscribe(EntityType.VIDEO, videosInvalidatedOnB::add);
+        busB.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        nodeA.stop();
+        nodeB.stop();
+        cacheChangeRepository.deleteAll();
+    }
+
+    @Test
+    void committedChangesReachOtherNodeOnce() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> nodeA.send(EntityType.VIDEO, 42L));
+
+        assertThat(nodeB.poll()).isEqualTo(1);
+        assertThat(videosInvalidatedOnB).containsExactly(42L);
+
+        // 같은 구간을 다시 읽어도 한 번만 적용, 보낸 인스턴스는 자기 변경을 읽지 않음
+        assertThat(nodeB.poll()).isZero();
+        assertThat(nodeA.poll()).isZero();
+    }
+
+    @Test
+    void rolledBackChangesAreNotSent() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            nodeA.send(EntityType.VIDEO, 7L);
+            status.setRollbackOnly();
+        });
+
+        assertThat(nodeB.poll()).isZero();
+        assertThat(videosInvalidatedOnB).isEmpty();
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.samulnori.jfr;
+
+import com.ssafy.samulnori.util.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * /actuator/jfr 는 ROLE_ADMIN 토큰만, 나머지 관리 엔드포인트(health 등)는 그대로 공개
+ * (관리 포트를 서비스 포트와 같게 두어 MockMvc 로 확인)
+ */
+@SpringBootTest(properties = "management.server.port=")
+@AutoConfigureMockMvc
+@ActiveProfiles("loadtest")
+class JfrEndpointSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Test
+    void jfrRequiresAdminRole() throws Exception {
+        mockMvc.perform(get("/actuator/jfr")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/jfr/samulnori-1.jfr")).andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/actuator/jfr").cookie(token("ROLE_USER"))).andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/jfr").cookie(token("ROLE_ADMIN"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void healthStaysOpen() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+    }
+
+    private Cookie token(String role) {
+        return new Cookie("AccessToken", jwtUtil.createAccessToken("1", "ops", role));
+    }
+}
@@ -0,0 +1,116 @@
+package com.ssafy.samulnori.jfr;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path dir;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrRecordingEndpoint(dir.toString(), Duration.ofMinutes(1), DataSize.ofMegabytes(10), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop();
+    }
+
+    @Test
+    void start_emit_stop_writesDomainEvents() throws Exception {
+        // given
+        endpoint.start(null, null, null);
+
+        // when
+        S3PutEvent event = new S3PutEvent();
+        event.begin();
+        event.key = "videos/a.mp4";
+        event.bytes = 1024;
+        event.contentType = "video/mp4";
+        event.success = true;
+        event.commit();
+        Map<String, Object> status = endpoint.stop();
+
+        // then
+        assertThat(status.get("state")).isNotEqualTo("RUNNING");
+        Path file = dir.resolve((String) status.get("file"));
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertThat(events).filteredOn(e -> e.getEventType().getName().equals("samulnori.S3Put"))
+                .singleElement()
+                .satisfies(e -> {
+                    assertThat(e.getString("key")).isEqualTo("videos/a.mp4");
+                    assertThat(e.getLong("bytes")).isEqualTo(1024);
+                });
+    }
+
+    @Test
+    void start_clampsDurationAndSizeToLimits() throws Exception {
+        // when
+        Map<String, Object> status = endpoint.start("default", 3600L, 1024L);
+
+        // then
+        assertThat(status.get("duration")).isEqualTo(Duration.ofMinutes(1));
+        assertThat(status.get("maxSize")).isEqualTo(DataSize.ofMegabytes(10).toBytes());
+    }
+
+    @Test
+    void start_whileRunning_isRejected() throws Exception {
+        endpoint.start(null, 10L, null);
+
+        assertThatThrownBy(() -> endpoint.start(null, 10L, null))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void start_unknownSettings_isRejected() {
+        assertThatThrownBy(() -> endpoint.start("../etc/passwd", null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void start_nonPositiveDurationOrSize_isRejected() {
+        assertThatThrownBy(() -> endpoint.start(null, 0L, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> endpoint.start(null, null, -1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(endpoint.status().get("state")).isEqualTo("NONE");
+    }
+
+    @Test
+    void start_keepsOnlyRecentFiles() throws Exception {
+        // given: 보관 개수(2) 만큼 이미 저장된 녹화
+        Files.createFile(dir.resolve("samulnori-1.jfr"));
+        Files.createFile(dir.resolve("samulnori-2.jfr"));
+
+        // when
+        endpoint.start(null, 10L, null);
+        endpoint.stop();
+
+        // then
+        assertThat(dir.resolve("samulnori-1.jfr")).doesNotExist();
+        assertThat(dir.resolve("samulnori-2.jfr")).exists();
+    }
+
+    @Test
+    void download_rejectsPathTraversal() {
+        assertThat(endpoint.download("../application.properties")).isNull();
+        assertThat(endpoint.download("samulnori-404.jfr")).isNull();
+    }
+}
@@ -0,0 +1,77 @@
+package com.ssafy.samulnori.model.service;
+
+import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import com.ssafy.samulnori.model.dto.user.MyInfoRequestDTO;
+import com.ssafy.samulnori.model.dto.user.PageDTO;
+import com.ssafy.samulnori.model.dto.user.ProfileVideosDTO;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 프로필 페이지: 첫 페이지 캐시 + 키셋 다음 페이지, 프로필 수정/영상 삭제 시 무효화
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("loadtest")
+class ProfilePageCacheTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Test
+    void firstPageIsCachedAndLaterPagesFollowCursor() throws Exception {
+        UserEntity creator = userRepository.save(UserEntity.builder()
+                .email("creator@samulnori.test").nickname("creator").loginName("creator").build());
+        List<Video> uploads = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            uploads.add(Video.builder().user(creator).title("upload " + i)
+                    .videoUrl("/files/videos/creator-" + i + ".mp4").runtime(10).build());
+        }
+        uploads = videoRepository.saveAll(uploads);
+
+        PageDTO page = userService.getUserProfile(creator.getId());
+        assertThat(page.getVideoCount()).isEqualTo(30);
+        assertThat(page.getVideos()).hasSize(24)
+                .extracting(VideoResponseDto::getTitle).startsWith("upload 29", "upload 28");
+        assertThat(userService.getUserProfile(creator.getId())).isSameAs(page);
+
+        ProfileVideosDTO rest = userService.getUserProfileVideos(creator.getId(), page.getNextCursor());
+        assertThat(rest.getNextCursor()).isNull();
+        assertThat(Stream.concat(page.getVideos().stream(), rest.getVideos().stream()).map(VideoResponseDto::getId))
+                .doesNotHaveDuplicates()
+                .hasSize(30);
+
+        userService.updateMyInfo(creator.getId(), MyInfoRequestDTO.builder()
+                .email("creator@samulnori.test").nickname("creator-renamed").build());
+        assertThat(userService.getUserProfile(creator.getId()).getUserDTO().getNickname()).isEqualTo("creator-renamed");
+
+        videoService.deleteVideo(uploads.get(29).getId(), creator.getId());
+        PageDTO afterDelete = userService.getUserProfile(creator.getId());
+        assertThat(afterDelete.getVideoCount()).isEqualTo(29);
+        assertThat(afterDelete.getVideos().get(0).getTitle()).isEqualTo("upload 28");
+
+        // 같은 DB 를 쓰는 다른 테스트(목록 크기 검증)에 섞이지 않도록 정리
+        videoRepository.deleteAll(uploads.subList(0, 29));
+        userRepository.delete(creator);
+    }
+}
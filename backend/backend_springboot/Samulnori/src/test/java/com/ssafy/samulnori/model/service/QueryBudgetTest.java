@@ -0,0 +1,243 @@
+package com.ssafy.samulnori.model.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.samulnori.model.dto.CommentItem;
+import com.ssafy.samulnori.model.dto.CommentResponseDto;
+import com.ssafy.samulnori.model.dto.NormalizedPage;
+import com.ssafy.samulnori.model.dto.VideoItem;
+import com.ssafy.samulnori.model.dto.VideoLikeResponseDto;
+import com.ssafy.samulnori.model.entity.Comment;
+import com.ssafy.samulnori.model.entity.CommentLike;
+import com.ssafy.samulnori.model.entity.Follow;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.model.repository.CommentLikeRepository;
+import com.ssafy.samulnori.model.repository.CommentRepository;
+import com.ssafy.samulnori.model.repository.FollowRepository;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import com.ssafy.samulnori.support.MaxQueries;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스 호출당 쿼리 수 상한 (N+1 회귀 방지)
+ * 목록 크기와 무관하게 상수 개의 쿼리로 끝나야 함
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserCardCache userCardCache;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ProfilePageCache profilePageCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private CommentLikeRepository commentLikeRepository;
+
+    @Autowired
+    private FollowRepository followRepository;
+
+    private List<UserEntity> users;
+    private List<Video> videos;
+    private List<Comment> parents;
+
+    @BeforeAll
+    void seed() {
+        List<UserEntity> newUsers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            newUsers.add(UserEntity.builder()
+                    .email("budget" + i + "@samulnori.test")
+                    .nickname("budget" + i)
+                    .loginName("budget" + i)
+                    .build());
+        }
+        users = userRepository.saveAll(newUsers);
+
+        followRepository.save(Follow.builder().follower(users.get(0)).followee(users.get(1)).build());
+        followRepository.save(Follow.builder().follower(users.get(0)).followee(users.get(2)).build());
+
+        List<Video> newVideos = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            newVideos.add(Video.builder()
+                    .user(users.get(i % users.size()))
+                    .title("budget video " + i)
+                    .videoUrl("/files/videos/budget-" + i + ".mp4")
+                    .runtime(30)
+                    .build());
+        }
+        videos = videoRepository.saveAll(newVideos);
+
+        // 작성자가 서로 다른 부모 댓글 10개 + 첫 댓글에 대댓글 5개
+        List<Comment> newParents = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            newParents.add(Comment.builder()
+                    .user(users.get(i % users.size()))
+                    .video(videos.get(0))
+                    .content("parent " + i)
+                    .build());
+        }
+        parents = commentRepository.saveAll(newParents);
+
+        List<Comment> replies = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            replies.add(Comment.builder()
+                    .user(users.get(i % users.size()))
+                    .video(videos.get(0))
+                    .parentComment(parents.get(0))
+                    .content("reply " + i)
+                    .build());
+        }
+        commentRepository.saveAll(replies);
+
+        commentLikeRepository.save(CommentLike.builder().user(users.get(0)).comment(parents.get(3)).isLiked(true).build());
+        commentLikeRepository.save(CommentLike.builder().user(users.get(0)).comment(parents.get(7)).isLiked(true).build());
+
+        // 정상 상태(카드 캐시 적중) 기준 예산, 캐시가 빈 경우는 coldUserCardsAddOneQuery
+        userCardCache.getAll(users.stream().map(UserEntity::getId).toList());
+    }
+
+    @Test
+    @MaxQueries(1)
+    void latestFeed() {
+        assertThat(videoService.getLatestVideos()).hasSize(12);
+    }
+
+    @Test
+    @MaxQueries(2)
+    void coldUserCardsAddOneQuery() {
+        // 업로더 수와 무관하게 카드 로드는 IN 쿼리 1회
+        userCardCache.getCards().invalidateAll();
+        assertThat(videoService.getLatestVideos()).hasSize(12)
+                .extracting(v -> v.getUploader().getNickname())
+                .doesNotContainNull();
+    }
+
+    @Test
+    @MaxQueries(2)
+    void normalizedFeedListsEachUploaderOnce() throws Exception {
+        // 정규화 목록 1 + 크기 비교용 기존 목록 1
+        NormalizedPage<VideoItem> page = videoService.getLatestVideoItems();
+
+        assertThat(page.items()).hasSize(12);
+        assertThat(page.users()).hasSize(users.size())
+                .containsKeys(page.items().stream().map(VideoItem::uploaderId).toArray(Long[]::new));
+        // 업로더 5명이 12개 영상에 반복 → 정규화 형태가 더 작음
+        assertThat(objectMapper.writeValueAsBytes(page).length)
+                .isLessThan(objectMapper.writeValueAsBytes(videoService.getLatestVideos()).length);
+    }
+
+    @Test
+    @MaxQueries(1)
+    void popularFeed() {
+        assertThat(videoService.getPopularVideos()).hasSize(12);
+    }
+
+    @Test
+    @MaxQueries(2)
+    void followingFeed() {
+        assertThat(videoService.getFollowingVideos(users.get(0).getId()))
+                .allSatisfy(v -> assertThat(v.getUploader().getId())
+                        .isIn(users.get(1).getId(), users.get(2).getId()));
+    }
+
+    @Test
+    @MaxQueries(3)
+    void videoDetail() {
+        assertThat(videoService.getVideo(videos.get(1).getId(), users.get(0).getId()).getUploader().getNickname())
+                .isEqualTo("budget1");
+    }
+
+    @Test
+    @MaxQueries(3)
+    void parentCommentsWithLikeFlags() {
+        List<CommentResponseDto> comments = commentService.getParentCommentsByVideo(videos.get(0).getId(), users.get(0).getId());
+
+        assertThat(comments).hasSize(10);
+        assertThat(comments).filteredOn(CommentResponseDto::isLiked)
+                .extracting(CommentResponseDto::getId)
+                .containsExactlyInAnyOrder(parents.get(3).getId(), parents.get(7).getId());
+    }
+
+    @Test
+    @MaxQueries(3)
+    void normalizedParentComments() {
+        NormalizedPage<CommentItem> page = commentService.getParentCommentItemsByVideo(videos.get(0).getId(), users.get(0).getId());
+
+        assertThat(page.items()).hasSize(10);
+        assertThat(page.items()).filteredOn(CommentItem::liked)
+                .extracting(CommentItem::id)
+                .containsExactlyInAnyOrder(parents.get(3).getId(), parents.get(7).getId());
+        assertThat(page.users()).containsKeys(page.items().stream().map(CommentItem::userId).toArray(Long[]::new));
+    }
+
+    @Test
+    @MaxQueries(3)
+    void replies() {
+        assertThat(commentService.getRepliesByParent(parents.get(0).getId(), users.get(0).getId())).hasSize(5);
+    }
+
+    @Test
+    @MaxQueries(6)
+    void toggleVideoLikeReturnsCountWithoutRefetch() {
+        VideoLikeResponseDto result = likeService.toggleVideoLike(users.get(3).getId(), videos.get(5).getId());
+
+        assertThat(result.isLiked()).isTrue();
+        assertThat(result.getLikeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @MaxQueries(1)
+    void bulkInsertIsBatched() {
+        // ID 를 INSERT 전에 발급하므로 saveAll 의 INSERT 30 건이 배치 1회로 전송됨
+        List<CommentLike> likes = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            likes.add(CommentLike.builder().user(users.get(1 + i / 10)).comment(parents.get(i % 10)).isLiked(false).build());
+        }
+        assertThat(commentLikeRepository.saveAll(likes)).extracting(CommentLike::getId).doesNotContainNull();
+    }
+
+    @Test
+    @MaxQueries(2)
+    void userProfile() {
+        // 캐시 미스 기준: 사용자 1 + 첫 페이지 1 (페이지 크기 이하라 count 생략)
+        profilePageCache.getPages().invalidateAll();
+        assertThat(userService.getUserProfile(users.get(1).getId()).getVideos()).isNotEmpty();
+    }
+}
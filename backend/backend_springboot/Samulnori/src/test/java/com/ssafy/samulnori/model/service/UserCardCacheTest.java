@@ -0,0 +1,64 @@
+package com.ssafy.samulnori.model.service;
+
+import com.ssafy.samulnori.model.dto.user.MyInfoRequestDTO;
+import com.ssafy.samulnori.model.dto.user.UserDTO;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 카드 캐시 무효화: 팔로우/언팔로우, 내 정보 수정, 탈퇴 직후 목록에 바로 반영되는지
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("loadtest")
+class UserCardCacheTest {
+
+    @Autowired
+    private UserCardCache userCardCache;
+
+    @Autowired
+    private FollowService followService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void profileAndFollowChangesInvalidateCards() throws Exception {
+        UserEntity fan = userRepository.save(UserEntity.builder()
+                .email("card-fan@samulnori.test").nickname("card-fan").loginName("card-fan").build());
+        UserEntity star = userRepository.save(UserEntity.builder()
+                .email("card-star@samulnori.test").nickname("card-star").loginName("card-star").build());
+
+        assertThat(userCardCache.get(star.getId()).followerCnt()).isZero();
+
+        followService.follow(fan.getId(), star.getId());
+        assertThat(followService.getFollowings(fan.getId()))
+                .extracting(UserDTO::getId, UserDTO::getFollowerCnt)
+                .containsExactly(tuple(star.getId(), 1));
+
+        followService.unfollow(fan.getId(), star.getId());
+        assertThat(userCardCache.get(star.getId()).followerCnt()).isZero();
+
+        userService.updateMyInfo(fan.getId(), MyInfoRequestDTO.builder()
+                .email("card-fan@samulnori.test").nickname("card-fan-renamed").build());
+        assertThat(userService.searchUsers("card-fan"))
+                .extracting(UserDTO::getNickname)
+                .containsExactly("card-fan-renamed");
+
+        userService.deleteUser(star.getId());
+        userService.deleteUser(fan.getId());
+        assertThat(userCardCache.get(star.getId())).isNull();
+        assertThat(userCardCache.getAll(List.of(fan.getId())).get(fan.getId()).nickname()).isNull();
+    }
+}
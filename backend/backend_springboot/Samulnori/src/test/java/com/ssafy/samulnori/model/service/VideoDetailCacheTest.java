@@ -0,0 +1,142 @@
+package com.ssafy.samulnori.model.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.model.repository.UserRepository;
+import com.ssafy.samulnori.model.repository.VideoRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 영상 상세: 동시 미스 합치기, 사용자별 좋아요 덧씌우기, 조회수 버퍼
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("loadtest")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VideoDetailCacheTest {
+
+    @Autowired
+    private VideoService videoService;
+
+    @Autowired
+    private LikeService likeService;
+
+    @Autowired
+    private VideoDetailCache videoDetailCache;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    private UserEntity uploader;
+    private UserEntity viewer;
+    private Video video;
+
+    @BeforeAll
+    void seed() {
+        uploader = userRepository.save(UserEntity.builder()
+                .email("detail-up@samulnori.test").nickname("detail-up").loginName("detail-up").build());
+        viewer = userRepository.save(UserEntity.builder()
+                .email("detail-viewer@samulnori.test").nickname("detail-viewer").loginName("detail-viewer").build());
+        video = videoRepository.save(Video.builder()
+                .user(uploader).title("shared video").videoUrl("/files/videos/shared.mp4").runtime(10).build());
+    }
+
+    // 같은 DB 를 쓰는 다른 테스트(목록 크기 검증)에 섞이지 않도록 정리
+    @AfterAll
+    void cleanUp() {
+        videoService.deleteVideo(video.getId(), uploader.getId());
+        userRepository.deleteAll(List.of(uploader, viewer));
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        videoDetailCache.invalidate(video.getId());
+        CacheStats before = videoDetailCache.getDetails().synchronous().stats();
+
+        int clients = 32;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<VideoResponseDto>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < clients; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return videoService.getVideo(video.getId(), null);
+                }));
+            }
+            start.countDown();
+            VideoResponseDto first = results.get(0).get();
+            for (Future<VideoResponseDto> result : results) {
+                assertThat(result.get()).isSameAs(first);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        CacheStats delta = videoDetailCache.getDetails().synchronous().stats().minus(before);
+        assertThat(delta.loadCount()).isEqualTo(1);
+    }
+
+    @Test
+    void likedFlagIsPerUserAndLikeRefreshesCount() {
+        VideoResponseDto beforeLike = videoService.getVideo(video.getId(), viewer.getId());
+        assertThat(beforeLike.isLikedByCurrentUser()).isFalse();
+
+        likeService.toggleVideoLike(viewer.getId(), video.getId());
+        try {
+            VideoResponseDto mine = videoService.getVideo(video.getId(), viewer.getId());
+            assertThat(mine.isLikedByCurrentUser()).isTrue();
+            assertThat(mine.getLikeCnt()).isEqualTo(beforeLike.getLikeCnt() + 1);
+
+            VideoResponseDto anonymous = videoService.getVideo(video.getId(), null);
+            assertThat(anonymous.isLikedByCurrentUser()).isFalse();
+            assertThat(anonymous.getLikeCnt()).isEqualTo(mine.getLikeCnt());
+        } finally {
+            likeService.toggleVideoLike(viewer.getId(), video.getId());
+        }
+    }
+
+    @Test
+    void viewsAreBufferedThenFlushed() {
+        viewCountBuffer.flush();
+        int before = videoRepository.findById(video.getId()).orElseThrow().getViewCnt();
+
+        for (int i = 0; i < 3; i++) {
+            videoService.getVideo(video.getId(), null);
+        }
+        viewCountBuffer.flush();
+
+        assertThat(videoRepository.findById(video.getId()).orElseThrow().getViewCnt()).isEqualTo(before + 3);
+    }
+
+    @Test
+    void missingVideoIsNotFound() {
+        assertThatThrownBy(() -> videoService.getVideo(-1L, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 영상입니다.");
+        assertThat(videoDetailCache.getDetails().getIfPresent(-1L)).isNull();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ssafy.samulnori.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LocalBlobStoreTest {
+
+    @TempDir
+    Path root;
+
+    private LocalBlobStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        store = new LocalBlobStore(root.toString(), "/files/");
+    }
+
+    @Test
+    void put_and_open_roundTrip() throws IOException {
+        // given
+        byte[] data = "hello samulnori".getBytes(StandardCharsets.UTF_8);
+
+        // when
+        String url = store.put("videos/a.mp4", new ByteArrayInputStream(data), data.length,
+                "video/mp4", null, false);
+
+        // then
+        assertThat(url).isEqualTo("/files/videos/a.mp4");
+        try (InputStream in = store.open("videos/a.mp4")) {
+            assertThat(in.readAllBytes()).isEqualTo(data);
+        }
+        // 임시 파일이 남지 않아야 함
+        try (var files = Files.list(root.resolve("videos"))) {
+            assertThat(files).hasSize(1);
+        }
+    }
+
+    @Test
+    void delete_removesFile() throws IOException {
+        store.put("thumbnails/t.png", new ByteArrayInputStream(new byte[]{1, 2, 3}), 3, "image/png", null, false);
+
+        store.delete("thumbnails/t.png");
+
+        assertThatThrownBy(() -> store.open("thumbnails/t.png")).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void resolve_rejectsPathTraversal() {
+        assertThatThrownBy(() -> store.resolve("../etc/passwd"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,164 @@
+package com.ssafy.samulnori.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MediaCacheTest {
+
+    @TempDir
+    Path dir;
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final AtomicInteger opens = new AtomicInteger();
+    private volatile CountDownLatch gate = new CountDownLatch(0);
+    private volatile boolean sizeKnown = true;
+
+    private MediaCache cache;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        BlobStore origin = new BlobStore() {
+            @Override
+            public String put(String key, InputStream in, long contentLength, String contentType,
+                              String cacheControl, boolean publicRead) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public InputStream open(String key) throws IOException {
+                opens.incrementAndGet();
+                try {
+                    gate.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                byte[] data = objects.get(key);
+                if (data == null) {
+                    throw new NoSuchFileException(key);
+                }
+                return new ByteArrayInputStream(data);
+            }
+
+            @Override
+            public void delete(String key) {
+            }
+
+            @Override
+            public long sizeOf(String key) throws IOException {
+                byte[] data = objects.get(key);
+                if (data == null) {
+                    throw new NoSuchFileException(key);
+                }
+                return sizeKnown ? data.length : -1;
+            }
+
+            @Override
+            public String urlOf(String key) {
+                return key;
+            }
+
+            @Override
+            public String presignedUrlOf(String key, Instant expiresAt) {
+                return key;
+            }
+
+            @Override
+            public String keyOf(String url) {
+                return url;
+            }
+        };
+
+        cache = new MediaCache(origin);
+        ReflectionTestUtils.setField(cache, "dir", dir.toString());
+        ReflectionTestUtils.setField(cache, "maxBytes", 10L);
+        cache.init();
+    }
+
+    @Test
+    void get_secondReadIsHit() throws IOException {
+        objects.put("videos/a.mp4", new byte[]{1, 2, 3});
+
+        cache.get("videos/a.mp4");
+        MediaCache.Entry entry = cache.get("videos/a.mp4");
+
+        assertThat(entry.size()).isEqualTo(3);
+        assertThat(opens.get()).isEqualTo(1);
+        assertThat(cache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void get_evictsLeastRecentlyUsedByBytes() throws IOException {
+        objects.put("videos/a.mp4", new byte[4]);
+        objects.put("videos/b.mp4", new byte[4]);
+        objects.put("videos/c.mp4", new byte[4]);
+
+        cache.get("videos/a.mp4");
+        cache.get("videos/b.mp4");
+        cache.get("videos/a.mp4");      // a 를 최근 사용으로 갱신
+        cache.get("videos/c.mp4");      // 10 바이트 초과 → b 제거
+
+        assertThat(cache.getUsedBytes()).isEqualTo(8);
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        cache.get("videos/a.mp4");
+        assertThat(opens.get()).isEqualTo(3);
+    }
+
+    @Test
+    void get_objectLargerThanCache_isNotCached() throws IOException {
+        objects.put("videos/a.mp4", new byte[4]);
+        objects.put("videos/big.mp4", new byte[11]);
+        cache.get("videos/a.mp4");
+
+        // 크기를 아는 저장소: 받지 않고 null (호출자가 원본에서 스트리밍)
+        assertThat(cache.get("videos/big.mp4")).isNull();
+        assertThat(opens.get()).isEqualTo(1);
+
+        // 크기를 모르는 저장소: 이번 요청만 서빙하고 캐시에는 넣지 않음
+        sizeKnown = false;
+        assertThat(cache.get("videos/big.mp4").size()).isEqualTo(11);
+
+        assertThat(cache.getEntryCount()).isEqualTo(1);
+        assertThat(cache.getUsedBytes()).isEqualTo(4);
+        assertThat(cache.getEvictions()).isZero();
+        assertThat(dir.toFile().list()).hasSize(1);
+    }
+
+    @Test
+    void get_coalescesConcurrentMisses() throws Exception {
+        objects.put("thumbnails/t.png", new byte[]{9, 9});
+        gate = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<MediaCache.Entry>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(pool.submit(() -> cache.get("thumbnails/t.png")));
+            }
+            Thread.sleep(200);
+            gate.countDown();
+
+            for (Future<MediaCache.Entry> f : futures) {
+                assertThat(f.get(5, TimeUnit.SECONDS).size()).isEqualTo(2);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertThat(opens.get()).isEqualTo(1);
+    }
+}
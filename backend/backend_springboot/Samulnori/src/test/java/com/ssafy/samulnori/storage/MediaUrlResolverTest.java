@@ -0,0 +1,69 @@
+package com.ssafy.samulnori.storage;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MediaUrlResolverTest {
+
+    @Mock
+    private BlobStore blobStore;
+
+    private MediaUrlResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new MediaUrlResolver(blobStore, true, Duration.ofMinutes(15), 0.8, 1000);
+    }
+
+    @Test
+    void resolve_reusesSignaturePerKey() {
+        // given
+        String stored = "https://bucket.s3.ap-northeast-2.amazonaws.com/videos/a.mp4";
+        when(blobStore.keyOf(stored)).thenReturn("videos/a.mp4");
+        when(blobStore.presignedUrlOf(eq("videos/a.mp4"), any(Instant.class))).thenReturn(stored + "?X-Amz-Signature=1");
+
+        // when
+        String first = resolver.resolve(stored);
+        String second = resolver.resolve(stored);
+
+        // then
+        assertThat(first).isEqualTo(stored + "?X-Amz-Signature=1").isEqualTo(second);
+        verify(blobStore, times(1)).presignedUrlOf(eq("videos/a.mp4"), any(Instant.class));
+    }
+
+    @Test
+    void resolve_keepsForeignUrl() {
+        String kakao = "http://k.kakaocdn.net/profile.jpg";
+        when(blobStore.keyOf(kakao)).thenReturn(null);
+
+        assertThat(resolver.resolve(kakao)).isEqualTo(kakao);
+        assertThat(resolver.resolve(null)).isNull();
+        verify(blobStore, never()).presignedUrlOf(any(), any());
+    }
+
+    @Test
+    void resolve_pointsAtMediaProxyWhenCacheEnabled() {
+        // given
+        MediaUrlResolver proxied = new MediaUrlResolver(blobStore, true, Duration.ofMinutes(15), 0.8, 1000,
+                true, "/media/");
+        String stored = "https://bucket.s3.ap-northeast-2.amazonaws.com/videos/a.mp4";
+        when(blobStore.keyOf(stored)).thenReturn("videos/a.mp4");
+
+        // when & then: 서명 없이 프록시 경로, URL 세대 고정
+        assertThat(proxied.resolve(stored)).isEqualTo("/media/videos/a.mp4");
+        assertThat(proxied.urlEpoch()).isZero();
+        verify(blobStore, never()).presignedUrlOf(any(), any());
+    }
+}
@@ -0,0 +1,194 @@
+package com.ssafy.samulnori.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SpoolingBlobStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private final StubS3 s3 = new StubS3();
+    private SpoolingBlobStore store;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        s3.gate.countDown();
+        if (store != null) {
+            store.stop();
+        }
+    }
+
+    @Test
+    void put_drainsToS3_thenDiscardsSpool() throws Exception {
+        // given: 전송을 막아 두고 업로드
+        s3.gate = new CountDownLatch(1);
+        store = start();
+
+        String url = store.put("videos/a.mp4", bytes("clip"), 4, "video/mp4", null, false);
+
+        // then: 응답은 최종 S3 URL, 전송 전까지는 스풀 URL 로 서빙
+        assertThat(url).isEqualTo(s3.urlOf("videos/a.mp4"));
+        assertThat(store.isPending("videos/a.mp4")).isTrue();
+        assertThat(store.presignedUrlOf("videos/a.mp4", Instant.now())).isEqualTo("/spool/videos/a.mp4");
+        try (InputStream spooled = store.open("videos/a.mp4")) {
+            assertThat(spooled.readAllBytes()).isEqualTo("clip".getBytes(StandardCharsets.UTF_8));
+        }
+
+        // when
+        s3.gate.countDown();
+        // 대기열에서 빠진 뒤 스풀 파일을 지우므로 용량이 0 이 될 때까지 대기
+        await(() -> store.getPendingCount() == 0 && store.getSpooledBytes() == 0);
+
+        // then
+        assertThat(s3.objects.get("videos/a.mp4")).isEqualTo("clip".getBytes(StandardCharsets.UTF_8));
+        assertThat(store.presignedUrlOf("videos/a.mp4", Instant.now())).startsWith(s3.urlOf("videos/a.mp4"));
+        assertThat(store.getSpooledBytes()).isZero();
+        assertThat(spoolFiles()).isEmpty();
+    }
+
+    @Test
+    void start_recoversSpoolAndRemovesPartialWrites() throws Exception {
+        // given: 비정상 종료 직전 상태 (메타 + 데이터 한 쌍, 쓰다 만 임시 파일)
+        Path data = dir.resolve("videos/b.mp4");
+        Files.createDirectories(data.getParent());
+        Files.writeString(data, "recovered");
+        Properties props = new Properties();
+        props.setProperty("key", "videos/b.mp4");
+        props.setProperty("contentType", "video/mp4");
+        props.setProperty("publicRead", "false");
+        try (Writer writer = Files.newBufferedWriter(dir.resolve("videos/b.mp4.spool-meta"))) {
+            props.store(writer, null);
+        }
+        Files.writeString(dir.resolve("videos/c.mp4.1234.tmp"), "partial");
+
+        // when
+        store = start();
+        await(() -> store.getPendingCount() == 0);
+
+        // then
+        assertThat(s3.objects.get("videos/b.mp4")).isEqualTo("recovered".getBytes(StandardCharsets.UTF_8));
+        assertThat(s3.objects).doesNotContainKey("videos/c.mp4");
+        assertThat(spoolFiles()).isEmpty();
+    }
+
+    @Test
+    void delete_duringDrain_removesObjectAfterUpload() throws Exception {
+        // given: 전송이 S3 put 안에서 멈춘 상태
+        s3.gate = new CountDownLatch(1);
+        store = start();
+        store.put("videos/d.mp4", bytes("gone"), 4, "video/mp4", null, false);
+        assertThat(s3.putStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when: 전송 중에 삭제하고 전송을 끝냄
+        store.delete("videos/d.mp4");
+        s3.gate.countDown();
+        await(() -> s3.deletes.get() == 2);
+
+        // then: put 이 다시 만든 객체도 지워짐
+        assertThat(s3.objects).doesNotContainKey("videos/d.mp4");
+        assertThat(store.isPending("videos/d.mp4")).isFalse();
+        assertThat(spoolFiles()).isEmpty();
+    }
+
+    private SpoolingBlobStore start() throws IOException {
+        SpoolingBlobStore spool = new SpoolingBlobStore(s3, dir.toString(), "/spool", 1 << 20, 2,
+                Duration.ofMillis(10), Duration.ofMillis(100), 5, Duration.ofSeconds(1));
+        spool.start();
+        return spool;
+    }
+
+    private List<Path> spoolFiles() throws IOException {
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private static InputStream bytes(String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    // 메모리 S3: put 은 gate 가 열릴 때까지 대기
+    private static class StubS3 extends S3BlobStore {
+
+        final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+        final AtomicInteger deletes = new AtomicInteger();
+        final CountDownLatch putStarted = new CountDownLatch(1);
+        volatile CountDownLatch gate = new CountDownLatch(0);
+
+        StubS3() {
+            super(null, new SimpleMeterRegistry());
+        }
+
+        @Override
+        public String put(String key, InputStream in, long contentLength, String contentType,
+                          String cacheControl, boolean publicRead) throws IOException {
+            byte[] body = in.readAllBytes();
+            putStarted.countDown();
+            try {
+                gate.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            objects.put(key, body);
+            return urlOf(key);
+        }
+
+        @Override
+        public InputStream open(String key) throws IOException {
+            byte[] body = objects.get(key);
+            if (body == null) {
+                throw new NoSuchFileException(key);
+            }
+            return new ByteArrayInputStream(body);
+        }
+
+        @Override
+        public void delete(String key) {
+            objects.remove(key);
+            deletes.incrementAndGet();
+        }
+
+        @Override
+        public String urlOf(String key) {
+            return "https://bucket.s3.test/" + key;
+        }
+
+        @Override
+        public String presignedUrlOf(String key, Instant expiresAt) {
+            return urlOf(key) + "?X-Amz-Signature=test";
+        }
+    }
+}
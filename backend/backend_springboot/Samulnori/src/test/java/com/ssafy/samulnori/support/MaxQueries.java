@@ -0,0 +1,20 @@
+package com.ssafy.samulnori.support;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 테스트 메서드 본문에서 실행되는 JDBC 문장 수 상한
+ * (@BeforeEach 등 준비 단계는 제외, QueryCountConfig 가 활성화된 스프링 컨텍스트 필요)
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+
+    int value();
+}
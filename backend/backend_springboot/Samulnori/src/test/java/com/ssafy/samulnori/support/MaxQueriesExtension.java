@@ -0,0 +1,32 @@
+package com.ssafy.samulnori.support;
+
+import com.ssafy.samulnori.util.QueryCounter;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * @MaxQueries 처리: 테스트 본문 실행 전후로 QueryCounter 를 켜고, 상한을 넘으면 실패
+ */
+public class MaxQueriesExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryCounter.start();
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryCounter.Counts counts = QueryCounter.stop();
+        MaxQueries limit = context.getRequiredTestMethod().getAnnotation(MaxQueries.class);
+        if (limit == null || counts == null || context.getExecutionException().isPresent()) {
+            return;
+        }
+        if (counts.getStatements() > limit.value()) {
+            throw new AssertionFailedError(String.format("%s: expected at most %d statements but executed %d",
+                    context.getDisplayName(), limit.value(), counts.getStatements()),
+                    limit.value(), counts.getStatements());
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.ssafy.samulnori.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SnowflakeIdsTest {
+
+    private static final long JS_MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    void next_encodesTimestampAndNode_andStaysJsSafe() {
+        long now = Instant.parse("2030-06-01T00:00:00Z").toEpochMilli();
+        SnowflakeIds ids = new SnowflakeIds(7, () -> now);
+
+        long id = ids.next();
+
+        assertThat(SnowflakeIds.timestampOf(id).toEpochMilli()).isEqualTo(now);
+        assertThat(SnowflakeIds.nodeOf(id)).isEqualTo(7);
+        assertThat(SnowflakeIds.lowerBound(Instant.ofEpochMilli(now))).isLessThanOrEqualTo(id);
+        // 41 bit 타임스탬프 끝(2094 년)까지 JS Number 범위
+        long last = SnowflakeIds.EPOCH + (1L << 41) - 1;
+        assertThat(new SnowflakeIds(SnowflakeIds.MAX_NODE, () -> last).next()).isLessThanOrEqualTo(JS_MAX_SAFE_INTEGER);
+    }
+
+    @Test
+    void next_sequenceExhausted_waitsForNextMillisecond() {
+        AtomicLong clock = new AtomicLong(SnowflakeIds.EPOCH + 1_000);
+        AtomicLong calls = new AtomicLong();
+        // 시퀀스 128 개를 다 쓴 뒤 몇 번 조회하면 시계가 넘어감
+        SnowflakeIds ids = new SnowflakeIds(0, () -> calls.incrementAndGet() > 140 ? clock.get() + 1 : clock.get());
+
+        long previous = -1;
+        for (int i = 0; i < 200; i++) {
+            long id = ids.next();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+        assertThat(SnowflakeIds.timestampOf(previous).toEpochMilli()).isEqualTo(clock.get() + 1);
+    }
+
+    @Test
+    void next_clockMovesBackwards_keepsIncreasingWithoutBlocking() {
+        AtomicLong clock = new AtomicLong(SnowflakeIds.EPOCH + 10_000);
+        SnowflakeIds ids = new SnowflakeIds(1, clock::get);
+        long before = ids.next();
+
+        clock.addAndGet(-5_000);
+        long previous = before;
+        for (int i = 0; i < 1_000; i++) {
+            long id = ids.next();
+            assertThat(id).isGreaterThan(previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void next_concurrentCallers_neverDuplicate() throws Exception {
+        SnowflakeIds ids = new SnowflakeIds(3, System::currentTimeMillis);
+        Set<Long> seen = ConcurrentHashMap.newKeySet();
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 20_000; i++) {
+                        seen.add(ids.next());
+                    }
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+        assertThat(seen).hasSize(80_000);
+    }
+
+    @Test
+    void invalidNode_isRejected() {
+        assertThatThrownBy(() -> new SnowflakeIds(32, System::currentTimeMillis))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
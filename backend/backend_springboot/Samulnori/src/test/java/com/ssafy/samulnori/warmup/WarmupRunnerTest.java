@@ -0,0 +1,94 @@
+package com.ssafy.samulnori.warmup;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 예열 단계가 readiness 이전에 끝나는지, 작업별로 실제 효과(커넥션, 요청 재생)가 있는지 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "warmup.enabled=true",
+        "warmup.db-connections=5",
+        "warmup.requests.iterations=8",
+        "warmup.requests.concurrency=2"
+})
+@AutoConfigureObservability
+@ActiveProfiles("loadtest")
+class WarmupRunnerTest {
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private ReadinessProbeTask probe;
+
+    @Test
+    void warmup_runsAllTasksBeforeReadiness() {
+        assertThat(probe.observed).containsExactly(ReadinessState.REFUSING_TRAFFIC);
+        for (String task : List.of("db-pool", "queries", "requests")) {
+            Timer timer = meterRegistry.find("application.warmup").tag("task", task).timer();
+            assertThat(timer).as(task).isNotNull();
+            assertThat(timer.count()).as(task).isEqualTo(1);
+        }
+        assertThat(meterRegistry.get("application.warmup.time").timeGauge().value()).isPositive();
+    }
+
+    @Test
+    void warmup_opensPoolConnectionsAndReplaysRequests() {
+        assertThat(dataSource.getHikariPoolMXBean().getTotalConnections()).isGreaterThanOrEqualTo(5);
+        Timer feed = meterRegistry.find("http.server.requests").tag("uri", "/videos").timer();
+        assertThat(feed).isNotNull();
+        assertThat(feed.count()).isGreaterThanOrEqualTo(8);
+    }
+
+    @TestConfiguration
+    static class ProbeConfig {
+
+        @Bean
+        ReadinessProbeTask readinessProbeTask(ApplicationAvailability availability) {
+            return new ReadinessProbeTask(availability);
+        }
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    static class ReadinessProbeTask implements WarmupTask {
+
+        private final ApplicationAvailability availability;
+        private final List<ReadinessState> observed = new ArrayList<>();
+
+        ReadinessProbeTask(ApplicationAvailability availability) {
+            this.availability = availability;
+        }
+
+        @Override
+        public String name() {
+            return "probe";
+        }
+
+        @Override
+        public void run(Instant deadline) {
+            observed.add(availability.getReadinessState());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.ssafy.samulnori.benchmark;
+
+import com.ssafy.samulnori.storage.MediaCache;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 구조 조회 비용 (4 스레드 동시 접근)
+ * - presignedUrl: MediaUrlResolver 서명 캐시(Caffeine) 히트
+ * - mediaCacheHit: MediaCache(LRU + ReentrantLock) 히트
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CacheBenchmark {
+
+    private static final int KEYS = 1_000;
+
+    private MediaUrlResolver urls;
+    private MediaCache mediaCache;
+    private String[] storedUrls;
+    private String[] cacheKeys;
+    private Path cacheDir;
+
+    @Setup
+    public void setUp() throws Exception {
+        urls = Fixtures.resolver(true);
+        storedUrls = new String[KEYS];
+        for (int i = 0; i < KEYS; i++) {
+            storedUrls[i] = Fixtures.BUCKET_URL + "videos/" + i + ".mp4";
+            urls.resolve(storedUrls[i]);
+        }
+
+        Fixtures.MemoryBlobStore store = new Fixtures.MemoryBlobStore();
+        cacheKeys = new String[64];
+        byte[] data = new byte[16 * 1024];
+        for (int i = 0; i < cacheKeys.length; i++) {
+            cacheKeys[i] = "thumbnails/" + i + ".jpg";
+            store.put(cacheKeys[i], new ByteArrayInputStream(data), data.length, "image/jpeg", null, false);
+        }
+        cacheDir = Files.createTempDirectory("media-cache-bench");
+        mediaCache = new MediaCache(store);
+        Fixtures.setField(mediaCache, "dir", cacheDir.toString());
+        Fixtures.setField(mediaCache, "maxBytes", 64L * 1024 * 1024);
+        Fixtures.invoke(mediaCache, "init");
+        for (String key : cacheKeys) {
+            mediaCache.get(key);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (var files = Files.list(cacheDir)) {
+            files.forEach(f -> f.toFile().delete());
+        }
+        Files.deleteIfExists(cacheDir);
+    }
+
+    @Benchmark
+    public String presignedUrl() {
+        return urls.resolve(storedUrls[ThreadLocalRandom.current().nextInt(KEYS)]);
+    }
+
+    @Benchmark
+    public MediaCache.Entry mediaCacheHit() throws IOException {
+        return mediaCache.get(cacheKeys[ThreadLocalRandom.current().nextInt(cacheKeys.length)]);
+    }
+}
@@ -0,0 +1,52 @@
+package com.ssafy.samulnori.benchmark;
+
+import com.ssafy.samulnori.util.CircuitBreaker;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 경로에서 갱신되는 카운터 구조의 경합 비용 (4 스레드)
+ * - LongAdder: MediaCache/Bulkhead 통계 카운터 / AtomicLong: 비교 기준
+ * - circuitBreaker: 스풀 드레이너가 호출마다 수행하는 tryAcquire + onSuccess
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+@State(Scope.Benchmark)
+public class CounterBenchmark {
+
+    private final LongAdder adder = new LongAdder();
+    private final AtomicLong atomic = new AtomicLong();
+    private CircuitBreaker breaker;
+
+    @Setup
+    public void setUp() {
+        breaker = new CircuitBreaker("bench", 5, Duration.ofSeconds(30));
+    }
+
+    @Benchmark
+    public void longAdder() {
+        adder.increment();
+    }
+
+    @Benchmark
+    public long atomicLong() {
+        return atomic.incrementAndGet();
+    }
+
+    @Benchmark
+    public boolean circuitBreaker() {
+        boolean acquired = breaker.tryAcquire();
+        if (acquired) {
+            breaker.onSuccess();
+        }
+        return acquired;
+    }
+}
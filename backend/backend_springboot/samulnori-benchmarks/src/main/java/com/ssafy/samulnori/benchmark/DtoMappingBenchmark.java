@@ -0,0 +1,63 @@
+package com.ssafy.samulnori.benchmark;
+
+import com.ssafy.samulnori.model.dto.CommentResponseDto;
+import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import com.ssafy.samulnori.model.dto.user.UserCard;
+import com.ssafy.samulnori.model.entity.Comment;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → 응답 DTO 변환 비용 (페이지 단위)
+ * - presign=true: 서명 캐시 히트 경로 포함 / false: 저장된 URL 그대로
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    @Param({"true", "false"})
+    public boolean presign;
+
+    private List<Video> videos;
+    private List<Comment> comments;
+    private MediaUrlResolver urls;
+
+    @Setup
+    public void setUp() {
+        List<UserEntity> users = Fixtures.users(50);
+        videos = Fixtures.videos(pageSize, users);
+        comments = Fixtures.comments(pageSize, users, videos.get(0));
+        urls = Fixtures.resolver(presign);
+    }
+
+    @Benchmark
+    public List<VideoResponseDto> videoPage() {
+        List<VideoResponseDto> page = new ArrayList<>(videos.size());
+        for (Video video : videos) {
+            page.add(VideoResponseDto.from(video, urls));
+        }
+        return page;
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> commentPage() {
+        List<CommentResponseDto> page = new ArrayList<>(comments.size());
+        for (Comment comment : comments) {
+            page.add(CommentResponseDto.from(comment, UserCard.of(comment.getUser()), urls));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.samulnori.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 피드 페이지(List&lt;VideoResponseDto&gt;) Jackson 직렬화 비용
+ * - Spring MVC 와 같은 Jackson2ObjectMapperBuilder 기본 설정 사용
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FeedSerializationBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private List<VideoResponseDto> page;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        MediaUrlResolver urls = Fixtures.resolver(true);
+        page = Fixtures.videos(pageSize, Fixtures.users(50)).stream()
+                .map(v -> VideoResponseDto.from(v, urls))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] serialize() throws Exception {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
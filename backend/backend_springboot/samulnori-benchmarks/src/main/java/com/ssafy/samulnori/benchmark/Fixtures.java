@@ -0,0 +1,143 @@
+package com.ssafy.samulnori.benchmark;
+
+import com.ssafy.samulnori.model.entity.Comment;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.storage.BlobStore;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 벤치마크 공용 픽스처
+ * - 운영과 같은 형태의 S3 URL 을 가진 엔티티
+ * - 네트워크 없이 동작하는 메모리 BlobStore (서명 비용은 문자열 조립 수준)
+ */
+final class Fixtures {
+
+    static final String BUCKET_URL = "https://samulnori.s3.ap-northeast-2.amazonaws.com/";
+
+    private Fixtures() {
+    }
+
+    static List<UserEntity> users(int count) {
+        List<UserEntity> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            users.add(UserEntity.builder()
+                    .id((long) i)
+                    .nickname("user" + i)
+                    .loginName("login" + i)
+                    .profileImg(BUCKET_URL + "profile-images/" + i + ".jpg")
+                    .createdAt(LocalDateTime.of(2025, 1, 1, 0, 0))
+                    .build());
+        }
+        return users;
+    }
+
+    static List<Video> videos(int count, List<UserEntity> users) {
+        List<Video> videos = new ArrayList<>(count);
+        LocalDateTime base = LocalDateTime.of(2025, 6, 1, 12, 0);
+        for (int i = 1; i <= count; i++) {
+            videos.add(Video.builder()
+                    .id((long) i)
+                    .user(users.get(i % users.size()))
+                    .title("사물놀이 연습 영상 " + i)
+                    .description("장구/북/징/꽹과리 합주 연습 기록 #" + i)
+                    .videoUrl(BUCKET_URL + "videos/" + i + ".mp4")
+                    .thumbnailUrl(BUCKET_URL + "thumbnails/" + i + ".jpg")
+                    .runtime(60 + i % 240)
+                    .createdAt(base.plusMinutes(i))
+                    .updatedAt(base.plusMinutes(i + 5))
+                    .viewCnt(i * 17)
+                    .likeCnt(i % 50)
+                    .commentCnt(i % 20)
+                    .build());
+        }
+        return videos;
+    }
+
+    static List<Comment> comments(int count, List<UserEntity> users, Video video) {
+        List<Comment> comments = new ArrayList<>(count);
+        LocalDateTime base = LocalDateTime.of(2025, 6, 2, 9, 0);
+        for (int i = 1; i <= count; i++) {
+            comments.add(Comment.builder()
+                    .id((long) i)
+                    .user(users.get(i % users.size()))
+                    .video(video)
+                    .content("좋은 연주네요! " + i)
+                    .createdAt(base.plusSeconds(i))
+                    .likeCnt(i % 7)
+                    .build());
+        }
+        return comments;
+    }
+
+    static MediaUrlResolver resolver(boolean presign) {
+        return new MediaUrlResolver(new MemoryBlobStore(), presign, Duration.ofMinutes(15), 0.8, 100_000);
+    }
+
+    static void setField(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    static void invoke(Object target, String name) throws ReflectiveOperationException {
+        Method method = target.getClass().getDeclaredMethod(name);
+        method.setAccessible(true);
+        method.invoke(target);
+    }
+
+    /** S3BlobStore 와 같은 URL 규칙을 가진 메모리 저장소 */
+    static final class MemoryBlobStore implements BlobStore {
+
+        private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+        @Override
+        public String put(String key, InputStream in, long contentLength, String contentType,
+                          String cacheControl, boolean publicRead) throws IOException {
+            objects.put(key, in.readAllBytes());
+            return urlOf(key);
+        }
+
+        @Override
+        public InputStream open(String key) throws IOException {
+            byte[] data = objects.get(key);
+            if (data == null) {
+                throw new IOException("not found: " + key);
+            }
+            return new ByteArrayInputStream(data);
+        }
+
+        @Override
+        public void delete(String key) {
+            objects.remove(key);
+        }
+
+        @Override
+        public String urlOf(String key) {
+            return BUCKET_URL + key;
+        }
+
+        @Override
+        public String presignedUrlOf(String key, Instant expiresAt) {
+            return urlOf(key) + "?X-Amz-Expires=" + expiresAt.getEpochSecond() + "&X-Amz-Signature=" + key.hashCode();
+        }
+
+        @Override
+        public String keyOf(String url) {
+            return url != null && url.startsWith(BUCKET_URL) ? url.substring(BUCKET_URL.length()) : null;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.samulnori.benchmark;
+
+import com.ssafy.samulnori.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 생성/검증 비용
+ * - filterPath: 예전 JwtFilter 호출 조합 (isExpired + id/loginName/role → 토큰 4회 파싱)
+ * - filterPathSingleParse: 현재 JwtFilter (getClaims 1회 후 클레임에서 꺼냄)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil("benchmark-secret-key-benchmark-secret-key-0123456789");
+        token = jwtUtil.createAccessToken("42", "login42", "ROLE_USER");
+    }
+
+    @Benchmark
+    public String create() {
+        return jwtUtil.createAccessToken("42", "login42", "ROLE_USER");
+    }
+
+    @Benchmark
+    public Boolean isExpired() {
+        return jwtUtil.isExpired(token);
+    }
+
+    @Benchmark
+    public void filterPath(Blackhole bh) {
+        bh.consume(jwtUtil.isExpired(token));
+        bh.consume(jwtUtil.getLoginName(token));
+        bh.consume(jwtUtil.getRole(token));
+        bh.consume(jwtUtil.getId(token));
+    }
+
+    @Benchmark
+    public void filterPathSingleParse(Blackhole bh) {
+        Claims claims = jwtUtil.getClaims(token);
+        bh.consume(claims.getExpiration().before(new Date()));
+        bh.consume(claims.get("loginName", String.class));
+        bh.consume(claims.get("role", String.class));
+        bh.consume(claims.get("id", String.class));
+    }
+}
@@ -0,0 +1,43 @@
+package com.ssafy.samulnori.benchmark;
+
+import com.ssafy.samulnori.filter.JwtFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtFilter 의 인증 면제 경로 판별 비용 (모든 요청에서 실행)
+ * - 앞쪽 조건에서 끝나는 경로와 마지막 정규식까지 가는 경로를 함께 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RouteClassificationBenchmark {
+
+    @Param({
+            "GET /videos",
+            "GET /videos/123/comments/45/replies",
+            "POST /videos/123/comments",
+            "GET /users/7/profile",
+            "POST /likes/videos/123"
+    })
+    public String request;
+
+    private String method;
+    private String uri;
+
+    @Setup
+    public void setUp() {
+        int space = request.indexOf(' ');
+        method = request.substring(0, space);
+        uri = request.substring(space + 1);
+    }
+
+    @Benchmark
+    public boolean isPermitAllRoute() {
+        return JwtFilter.isPermitAllRoute(uri, method);
+    }
+}
@@ -0,0 +1,64 @@
+package com.ssafy.samulnori.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.samulnori.model.dto.CommentResponseDto;
+import com.ssafy.samulnori.model.dto.VideoResponseDto;
+import com.ssafy.samulnori.model.dto.user.UserCard;
+import com.ssafy.samulnori.model.entity.UserEntity;
+import com.ssafy.samulnori.model.entity.Video;
+import com.ssafy.samulnori.storage.MediaUrlResolver;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 응답 인코딩 비교: JSON vs CBOR (같은 DTO, 같은 Jackson 설정)
+ * - 피드 / 댓글 목록 100 건의 인코딩·디코딩 시간, 본문 크기는 setUp 에서 출력
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    @Param({"json", "cbor"})
+    public String format;
+
+    @Param({"feed", "comments"})
+    public String payload;
+
+    private ObjectMapper mapper;
+    private Object page;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        mapper = "cbor".equals(format)
+                ? Jackson2ObjectMapperBuilder.cbor().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+        MediaUrlResolver urls = Fixtures.resolver(true);
+        List<UserEntity> users = Fixtures.users(50);
+        List<Video> videos = Fixtures.videos(100, users);
+        page = "feed".equals(payload)
+                ? videos.stream().map(v -> VideoResponseDto.from(v, urls)).toList()
+                : Fixtures.comments(100, users, videos.get(0)).stream()
+                        .map(c -> CommentResponseDto.from(c, UserCard.of(c.getUser()), urls)).toList();
+        encoded = mapper.writeValueAsBytes(page);
+        System.out.printf("%n[%s/%s] %d bytes%n", format, payload, encoded.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public JsonNode decode() throws Exception {
+        return mapper.readTree(encoded);
+    }
+}
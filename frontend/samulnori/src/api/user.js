@@ -40,6 +40,14 @@ export const getUserProfile = async (userId) => {
     return res.data;
 };
 
+// 프로필 영상 다음 페이지 (cursor: 직전 페이지의 nextCursor)
+export const getUserProfileVideos = async (userId, cursor) => {
+    const res = await api.get(`/users/${userId}/profile/videos`, {
+        params: { cursor }
+    });
+    return res.data;
+};
+
 export const unSignup = async () => {
     return await api.delete(`/users/me`);
 }
\ No newline at end of file
@@ -1,6 +1,6 @@
 import React, { useState, useEffect } from "react"
 import { useParams, useNavigate } from "react-router-dom"
-import { getUserProfile } from "../../api/user"
+import { getUserProfile, getUserProfileVideos } from "../../api/user"
 import { followUser, unfollowUser, getFollowings, getFollowers } from "../../api/follow"
 import VideoGrid from "./VideoGrid"
 import UserCard from "./UserCard"
@@ -12,6 +12,8 @@ function UserPage() {
   const loginUser = useAuthStore(state => state.user)
   const [user, setUser] = useState(null)
   const [videos, setVideos] = useState([])
+  const [videoCount, setVideoCount] = useState(0)
+  const [nextCursor, setNextCursor] = useState(null)
   const [introduce, setIntroduce] = useState("")
   const [isFollowing, setIsFollowing] = useState(false)
   const [followingList, setFollowingList] = useState([])
@@ -40,11 +42,23 @@ function UserPage() {
     setActiveTab(tab)
   }
 
+  const fetchMoreVideos = async () => {
+    try {
+      const page = await getUserProfileVideos(id, nextCursor)
+      setVideos(prev => [...prev, ...page.videos])
+      setNextCursor(page.nextCursor)
+    } catch (err) {
+      console.error('영상 추가 로딩 실패:', err)
+    }
+  }
+
   const fetchUserData = async () => {
     try {
       const userData = await getUserProfile(id)
       setUser(userData.userDTO)
       setVideos(userData.videos)
+      setVideoCount(userData.videoCount)
+      setNextCursor(userData.nextCursor)
       setIntroduce(userData.introduce)
 
       // 로그인한 사용자만 팔로잉/팔로워 정보 가져오기
@@ -241,14 +255,33 @@ function UserPage() {
                 opacity: !loginUser && (tab === "following" || tab === "followers") ? 0.6 : 1,
               }}
             >
-              {tab === "videos" ? `업로드(${videos.length})` : tab === "following" ? `팔로잉${loginUser ? `(${followingList.length})` : `(${user.followerCnt})`}` : `팔로워${loginUser ? `(${followersList.length})` : ''}`}
+              {tab === "videos" ? `업로드(${videoCount})` : tab === "following" ? `팔로잉${loginUser ? `(${followingList.length})` : `(${user.followerCnt})`}` : `팔로워${loginUser ? `(${followersList.length})` : ''}`}
             </div>
           ))}
         </div>
 
         {/* ✅ 탭 내용 */}
         {activeTab === "videos" && (
-          <VideoGrid videos={videos} emptyText="업로드한 영상이 없습니다." />
+          <>
+            <VideoGrid videos={videos} emptyText="업로드한 영상이 없습니다." />
+            {nextCursor && (
+              <div style={{ textAlign: 'center', marginTop: '20px' }}>
+                <button
+                  onClick={fetchMoreVideos}
+                  style={{
+                    padding: '8px 20px',
+                    backgroundColor: 'transparent',
+                    color: '#ccc',
+                    border: '1px solid #333',
+                    borderRadius: '20px',
+                    cursor: 'pointer',
+                  }}
+                >
+                  더 보기
+                </button>
+              </div>
+            )}
+          </>
         )}
 
         {activeTab === "following" && (